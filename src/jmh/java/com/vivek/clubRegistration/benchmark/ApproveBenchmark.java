@@ -0,0 +1,69 @@
+package com.vivek.clubRegistration.benchmark;
+
+import com.vivek.clubRegistration.model.Member;
+import com.vivek.clubRegistration.model.MemberStatus;
+import com.vivek.clubRegistration.model.MemberSummary;
+import com.vivek.clubRegistration.repository.MemberRepository;
+import com.vivek.clubRegistration.service.CapacityService;
+import com.vivek.clubRegistration.service.MemberService;
+import com.vivek.clubRegistration.service.StatsService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * approveMember consumes a pending applicant per call, so each iteration is a fixed
+ * batch of approvals over a pool that is reset to PENDING beforehand.
+ * {@code @OperationsPerInvocation} makes the reported score the time per approval.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, batchSize = ApproveBenchmark.APPROVALS_PER_ITERATION)
+@Measurement(iterations = 10, batchSize = ApproveBenchmark.APPROVALS_PER_ITERATION)
+@OperationsPerInvocation(ApproveBenchmark.APPROVALS_PER_ITERATION)
+@Fork(1)
+public class ApproveBenchmark {
+
+    static final int APPROVALS_PER_ITERATION = 500;
+
+    @Param({"1000", "10000", "100000"})
+    int tableSize;
+
+    private ConfigurableApplicationContext context;
+    private MemberService memberService;
+    private List<Long> pendingIds;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        memberService = context.getBean(MemberService.class);
+        BenchmarkContext.seed(memberService, tableSize, "seed-");
+        pendingIds = context.getBean(MemberRepository.class)
+                .findSummariesByStatus(MemberStatus.PENDING)
+                .stream().map(MemberSummary::getId).limit(APPROVALS_PER_ITERATION).toList();
+    }
+
+    @Setup(Level.Iteration)
+    public void resetPool() {
+        context.getBean(JdbcTemplate.class)
+                .update("UPDATE members SET status = 'PENDING', approved_at = NULL WHERE status = 'APPROVED'");
+        context.getBean(CapacityService.class).reconcile();
+        context.getBean(StatsService.class).resync();
+        next = 0;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Member approveMember() {
+        return memberService.approveMember(pendingIds.get(next++));
+    }
+}
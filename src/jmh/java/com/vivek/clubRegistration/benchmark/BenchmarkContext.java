@@ -0,0 +1,62 @@
+package com.vivek.clubRegistration.benchmark;
+
+import com.vivek.clubRegistration.ClubRegistrationApplication;
+import com.vivek.clubRegistration.TestMembers;
+import com.vivek.clubRegistration.model.Member;
+import com.vivek.clubRegistration.service.MemberService;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Boots the application (without a web server) against a fresh in-memory H2 database
+ * and seeds it through the real registration path.
+ */
+final class BenchmarkContext {
+
+    private static final String[] MEMBERSHIP_TYPES = {"SILVER", "GOLD", "PLATINUM"};
+
+    private BenchmarkContext() {
+    }
+
+    static ConfigurableApplicationContext start(String... extraProperties) {
+        List<String> properties = new ArrayList<>(List.of(
+                "spring.datasource.url=jdbc:h2:mem:bench-" + UUID.randomUUID()
+                        + ";DB_CLOSE_DELAY=-1;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE",
+                // Keep capacity out of the way unless a benchmark is about capacity
+                "club.max.members=100000000",
+                // Per-registration INFO lines would dominate the numbers and flood the JMH output
+                "logging.level.root=WARN"));
+        properties.addAll(List.of(extraProperties));
+        return new SpringApplicationBuilder(ClubRegistrationApplication.class)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                .properties(properties.toArray(String[]::new))
+                .run();
+    }
+
+    /** Inserts {@code count} PENDING members in bulk-sized chunks. */
+    static void seed(MemberService memberService, int count, String emailPrefix) {
+        for (int from = 0; from < count; from += 5000) {
+            List<Member> chunk = new ArrayList<>();
+            for (int i = from; i < Math.min(from + 5000, count); i++) {
+                chunk.add(member(emailPrefix + i + "@bench.dev", i));
+            }
+            memberService.registerMembers(chunk);
+        }
+    }
+
+    static Member member(String email, int n) {
+        return TestMembers.applicantBuilder(email)
+                .fullName("Bench Member " + n)
+                .dateOfBirth(LocalDate.of(1960 + n % 40, 1 + n % 12, 1 + n % 28))
+                .membershipType(MEMBERSHIP_TYPES[n % MEMBERSHIP_TYPES.length])
+                .address("221B Baker Street, London")
+                .build();
+    }
+}
@@ -0,0 +1,78 @@
+package com.vivek.clubRegistration.benchmark;
+
+import com.vivek.clubRegistration.model.CursorPage;
+import com.vivek.clubRegistration.model.Member;
+import com.vivek.clubRegistration.model.MemberStatus;
+import com.vivek.clubRegistration.model.MemberSummary;
+import com.vivek.clubRegistration.service.MemberService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Registration and read hot paths at several table sizes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MemberServiceBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    int tableSize;
+
+    private ConfigurableApplicationContext context;
+    private MemberService memberService;
+    private String middleCursor;
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        memberService = context.getBean(MemberService.class);
+        BenchmarkContext.seed(memberService, tableSize, "seed-");
+
+        // Walk to roughly the middle of the table once, to benchmark a deep keyset page
+        String cursor = null;
+        for (int seen = 0; seen < tableSize / 2; seen += 500) {
+            cursor = memberService.getMembersPage(null, cursor, 500).getNextCursor();
+        }
+        middleCursor = cursor;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Member registerMember() {
+        long n = sequence.incrementAndGet();
+        return memberService.registerMember(BenchmarkContext.member("reg-" + n + "@bench.dev", (int) n));
+    }
+
+    @Benchmark
+    public Map<String, Object> getStats() {
+        return memberService.getStats();
+    }
+
+    @Benchmark
+    public CursorPage<MemberSummary> listAllFirstPage() {
+        return memberService.getMembersPage(null, null, 50);
+    }
+
+    @Benchmark
+    public CursorPage<MemberSummary> listPendingFirstPage() {
+        return memberService.getMembersPage(MemberStatus.PENDING, null, 50);
+    }
+
+    @Benchmark
+    public CursorPage<MemberSummary> listAllDeepPage() {
+        return memberService.getMembersPage(null, middleCursor, 50);
+    }
+}
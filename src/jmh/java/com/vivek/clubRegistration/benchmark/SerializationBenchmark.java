@@ -0,0 +1,67 @@
+package com.vivek.clubRegistration.benchmark;
+
+import com.vivek.clubRegistration.model.ApiResponse;
+import com.vivek.clubRegistration.model.Member;
+import com.vivek.clubRegistration.model.MemberStatus;
+import com.vivek.clubRegistration.model.MemberSummary;
+import org.openjdk.jmh.annotations.*;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CPU-only costs on every list response: the computed age and JSON encoding, for full
+ * entities and for the summary projection the list endpoints return.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+
+    @Param({"50", "1000"})
+    int listSize;
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    private Member single;
+    private ApiResponse<List<Member>> response;
+    private ApiResponse<List<MemberSummary>> summaryResponse;
+
+    @Setup
+    public void setUp() {
+        List<Member> members = new ArrayList<>();
+        for (int i = 0; i < listSize; i++) {
+            Member m = BenchmarkContext.member("member" + i + "@bench.dev", i);
+            m.setId((long) i + 1);
+            m.setStatus(MemberStatus.values()[i % MemberStatus.values().length]);
+            m.setApprovedAt(m.getStatus() == MemberStatus.APPROVED ? LocalDateTime.now() : null);
+            members.add(m);
+        }
+        single = members.get(0);
+        response = ApiResponse.ok("All members", members);
+        summaryResponse = ApiResponse.ok("All members", members.stream()
+                .map(m -> new MemberSummary(m.getId(), m.getFullName(), m.getEmail(), m.getPhone(),
+                        m.getMembershipType(), m.getStatus(), m.getRegisteredAt(), m.getDateOfBirth()))
+                .toList());
+    }
+
+    @Benchmark
+    public int memberGetAge() {
+        return single.getAge();
+    }
+
+    @Benchmark
+    public byte[] serializeMemberList() {
+        return jsonMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] serializeSummaryList() {
+        return jsonMapper.writeValueAsBytes(summaryResponse);
+    }
+}
@@ -0,0 +1,132 @@
+package com.vivek.clubRegistration.benchmark;
+
+import com.vivek.clubRegistration.ClubRegistrationApplication;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Time from launching a fresh JVM to the first successful {@code GET /api/stats}, against
+ * an embedded H2 database. {@code default} and {@code lazy} run from the benchmark classpath;
+ * {@code fast-start} runs the AOT-processed jar with its CDS archive, so it needs
+ * {@code ./mvnw -Pfast-start package} first (CDS cannot archive classes loaded from directories).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 5)
+@Fork(1)
+public class StartupBenchmark {
+
+    private static final Path FAST_START_DIR = Path.of("target", "fast-start");
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(3);
+
+    @Param({"default", "lazy"})
+    String mode;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(1))
+            .build();
+    private List<String> launcher;
+    private Process process;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        launcher = switch (mode) {
+            case "default" -> List.of(java, "-cp", System.getProperty("java.class.path"),
+                    ClubRegistrationApplication.class.getName());
+            case "lazy" -> List.of(java, "-cp", System.getProperty("java.class.path"),
+                    ClubRegistrationApplication.class.getName(), "--spring.profiles.active=fast-start");
+            case "fast-start" -> List.of(java,
+                    "-XX:SharedArchiveFile=" + FAST_START_DIR.resolve("application.jsa"),
+                    "-Dspring.aot.enabled=true",
+                    "-jar", fastStartJar().toString(), "--spring.profiles.active=fast-start");
+            default -> throw new IllegalArgumentException("Unknown mode: " + mode);
+        };
+    }
+
+    @TearDown(Level.Invocation)
+    public void stop() throws InterruptedException {
+        if (process != null) {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+            process = null;
+        }
+    }
+
+    @Benchmark
+    public int timeToFirstRequest() throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>(launcher);
+        command.addAll(List.of(
+                "--server.port=" + port,
+                "--spring.datasource.url=jdbc:h2:mem:startup-" + UUID.randomUUID()
+                        + ";DB_CLOSE_DELAY=-1;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--logging.level.root=WARN"));
+        File log = new File("target", "startup-benchmark-" + mode + ".log");
+        process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log)
+                .start();
+        return awaitFirstResponse(port, log);
+    }
+
+    private int awaitFirstResponse(int port, File log) throws InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/stats"))
+                .timeout(Duration.ofSeconds(10))
+                .build();
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("Application exited during startup, see " + log);
+            }
+            try {
+                HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() == 200) {
+                    return response.statusCode();
+                }
+            } catch (IOException notListeningYet) {
+                // Connection refused until Tomcat is up
+            }
+            Thread.sleep(10);
+        }
+        throw new IllegalStateException("No successful response within " + STARTUP_TIMEOUT + ", see " + log);
+    }
+
+    private static Path fastStartJar() throws IOException {
+        if (!Files.exists(FAST_START_DIR.resolve("application.jsa"))) {
+            throw new IllegalStateException("No CDS archive in " + FAST_START_DIR + "; run ./mvnw -Pfast-start package first");
+        }
+        try (Stream<Path> files = Files.list(FAST_START_DIR)) {
+            return files.filter(p -> p.toString().endsWith(".jar")).findFirst()
+                    .orElseThrow(() -> new IllegalStateException("No extracted jar in " + FAST_START_DIR));
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.vivek.clubRegistration.benchmark;
+
+import com.vivek.clubRegistration.model.ApiResponse;
+import com.vivek.clubRegistration.model.FieldSelection;
+import com.vivek.clubRegistration.model.Member;
+import com.vivek.clubRegistration.model.MemberStatus;
+import com.vivek.clubRegistration.model.MemberSummary;
+import org.openjdk.jmh.annotations.*;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.ser.std.SimpleBeanPropertyFilter;
+import tools.jackson.databind.ser.std.SimpleFilterProvider;
+import tools.jackson.dataformat.cbor.CBORMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Encoding time and bytes on the wire for one large listing response, per wire format,
+ * field selection and compression. The score is the time to produce the body; its size is
+ * printed once per trial, as {@code payload: <bytes>}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WireFormatBenchmark {
+
+    @Param({"100000"})
+    int listSize;
+
+    @Param({"json", "cbor"})
+    String format;
+
+    // "all" or a ?fields= value
+    @Param({"all", "id,email,status"})
+    String fields;
+
+    @Param({"none", "gzip"})
+    String compression;
+
+    private ApiResponse<List<MemberSummary>> response;
+    private ObjectWriter writer;
+
+    @Setup
+    public void setUp() {
+        List<MemberSummary> members = new ArrayList<>(listSize);
+        for (int i = 0; i < listSize; i++) {
+            Member m = BenchmarkContext.member("member" + i + "@bench.dev", i);
+            members.add(new MemberSummary((long) i + 1, m.getFullName(), m.getEmail(), m.getPhone(),
+                    m.getMembershipType(), MemberStatus.values()[i % MemberStatus.values().length],
+                    m.getRegisteredAt(), m.getDateOfBirth()));
+        }
+        response = ApiResponse.ok("All members", members);
+
+        ObjectWriter base = switch (format) {
+            case "json" -> FieldSelection.enable(JsonMapper.builder()).build().writer();
+            case "cbor" -> FieldSelection.enable(CBORMapper.builder()).build().writer();
+            default -> throw new IllegalArgumentException("Unknown format: " + format);
+        };
+        writer = fields.equals("all") ? base : base.with(new SimpleFilterProvider().addFilter(
+                FieldSelection.FILTER_ID, SimpleBeanPropertyFilter.filterOutAllExcept(fields.split(","))));
+        try {
+            System.out.printf("%npayload: %d bytes%n", encode().length);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(1 << 20);
+        try (OutputStream out = compression.equals("gzip") ? new GZIPOutputStream(bytes, 8192) : bytes) {
+            writer.writeValue(out, response);
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,54 @@
+package com.vivek.clubRegistration.config;
+
+import com.vivek.clubRegistration.service.AdmissionControl;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Runs admission control on registration POSTs before the handler is invoked. The email
+ * domain of a JSON body is checked by {@link RegistrationBodyAdmissionAdvice} once the body
+ * is read; form posts carry it as a request parameter and are checked here.
+ */
+@Component
+@RequiredArgsConstructor
+public class AdmissionInterceptor implements HandlerInterceptor {
+
+    private static final String ADMITTED = AdmissionInterceptor.class.getName() + ".admitted";
+
+    private final AdmissionControl admissionControl;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!admissionControl.isEnabled() || !"POST".equals(request.getMethod())) {
+            return true;
+        }
+        // Cheapest checks first; the in-flight slot is only taken once the buckets agree
+        admissionControl.admitClient(request.getRemoteAddr());
+        if (MediaType.APPLICATION_FORM_URLENCODED.isCompatibleWith(contentType(request))) {
+            admissionControl.admitEmail(request.getParameter("email"));
+        }
+        admissionControl.enter();
+        request.setAttribute(ADMITTED, Boolean.TRUE);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(ADMITTED) != null) {
+            request.removeAttribute(ADMITTED);
+            admissionControl.exit();
+        }
+    }
+
+    private static MediaType contentType(HttpServletRequest request) {
+        try {
+            return request.getContentType() == null ? null : MediaType.parseMediaType(request.getContentType());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.vivek.clubRegistration.config;
+
+import com.vivek.clubRegistration.model.FieldSelection;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractJacksonHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+import tools.jackson.databind.ser.FilterProvider;
+import tools.jackson.databind.ser.std.SimpleBeanPropertyFilter;
+import tools.jackson.databind.ser.std.SimpleFilterProvider;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Sparse responses: {@code ?fields=id,email,status} keeps only those properties of each member
+ * in the body, in JSON and CBOR alike; the {@code ApiResponse} envelope is untouched. The
+ * Jackson writer skips the other properties instead of encoding and then dropping them.
+ *
+ * <p>The member types and the application's mappers are set up by {@link FieldSelection};
+ * they serialize in full wherever no fields were asked for.
+ */
+@ControllerAdvice
+public class FieldSelectionAdvice implements ResponseBodyAdvice<Object> {
+
+    private static final String FIELDS_PARAM = "fields";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return AbstractJacksonHttpMessageConverter.class.isAssignableFrom(converterType);
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType contentType,
+                                  Class<? extends HttpMessageConverter<?>> converterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        return body;
+    }
+
+    @Override
+    public Map<String, Object> determineWriteHints(Object body, MethodParameter returnType, MediaType contentType,
+                                                   Class<? extends HttpMessageConverter<?>> converterType) {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return null;
+        }
+        String fields = attributes.getRequest().getParameter(FIELDS_PARAM);
+        if (fields == null || fields.isBlank()) {
+            return null;
+        }
+        Set<String> names = Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .collect(Collectors.toSet());
+        return Map.of(FilterProvider.class.getName(),
+                new SimpleFilterProvider().addFilter(FieldSelection.FILTER_ID, SimpleBeanPropertyFilter.filterOutAllExcept(names)));
+    }
+}
@@ -0,0 +1,56 @@
+package com.vivek.clubRegistration.config;
+
+import com.vivek.clubRegistration.model.Member;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.stereotype.Component;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import java.util.List;
+
+/**
+ * Publishes hit, miss, put and eviction counts for every second-level cache region as
+ * {@code cache.*} metrics tagged {@code cache=<region>}, for sizing the regions in
+ * {@code hibernate-cache.conf}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HibernateCacheMetrics implements MeterBinder {
+
+    private static final List<String> REGIONS = List.of(
+            Member.CACHE_REGION,
+            Member.LIST_CACHE_REGION,
+            RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME,
+            RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME);
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    // Bound by Boot when the registry is created, so it also works with lazy initialization
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        RegionFactory regionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getCache().getRegionFactory();
+        if (!(regionFactory instanceof JCacheRegionFactory jcache)) {
+            return;
+        }
+        // Query regions are only created on first use; getCache creates them from their config now
+        CacheManager cacheManager = jcache.getCacheManager();
+        for (String region : REGIONS) {
+            Cache<Object, Object> cache = cacheManager.getCache(region);
+            if (cache != null) {
+                JCacheMetrics.monitor(meterRegistry, cache, Tags.of("cacheManager", "hibernate"));
+            }
+        }
+        log.info("Second-level cache metrics bound for regions {}", cacheManager.getCacheNames());
+    }
+}
@@ -0,0 +1,26 @@
+package com.vivek.clubRegistration.config;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Keeps lazy initialization (the {@code fast-start} profile) safe: {@code @Scheduled} methods
+ * are only registered once their bean exists, so beans that own scheduled jobs are always
+ * created at startup. Everything else waits for its first use. No effect when lazy
+ * initialization is off.
+ */
+@Configuration
+public class LazyInitConfig {
+
+    @Bean
+    static LazyInitializationExcludeFilter scheduledJobOwners() {
+        return (beanName, beanDefinition, beanType) -> !MethodIntrospector.selectMethods(beanType,
+                (MethodIntrospector.MetadataLookup<Boolean>) method ->
+                        AnnotatedElementUtils.hasAnnotation(method, Scheduled.class) ? Boolean.TRUE : null)
+                .isEmpty();
+    }
+}
@@ -0,0 +1,110 @@
+package com.vivek.clubRegistration.config;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Sends connections for {@code @Transactional(readOnly = true)} work to the replica and
+ * everything else to the primary.
+ *
+ * <p>The routing decision reads the transaction's read-only flag, which Spring only sets
+ * once the transaction has begun, so this must sit behind a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy} that defers
+ * fetching the real connection until the first statement.
+ *
+ * <p>A replica lags the primary, so a client whose write committed less than
+ * {@code readAfterWrite} ago reads from the primary too: the commit time is kept on the
+ * request and sent back in a cookie, so registering and then immediately listing members
+ * never misses the new row, on any instance. Other clients keep reading from the replica.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Route { PRIMARY, REPLICA }
+
+    static final String LAST_WRITE_COOKIE = "club_last_write";
+    private static final String LAST_WRITE_ATTRIBUTE = ReadWriteRoutingDataSource.class.getName() + ".lastWrite";
+
+    private final long readAfterWriteMillis;
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, Duration readAfterWrite) {
+        this.readAfterWriteMillis = readAfterWrite.toMillis();
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return Route.PRIMARY;
+        }
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return recentlyWritten() ? Route.PRIMARY : Route.REPLICA;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()
+                && RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    recordWrite(attributes);
+                }
+            });
+        }
+        return Route.PRIMARY;
+    }
+
+    // Work outside a request (scheduled jobs, queue workers) serves no client, so it isn't pinned
+    private boolean recentlyWritten() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return false;
+        }
+        Long lastWrite = lastWrite(attributes.getRequest());
+        return lastWrite != null && System.currentTimeMillis() - lastWrite < readAfterWriteMillis;
+    }
+
+    private static Long lastWrite(HttpServletRequest request) {
+        if (request.getAttribute(LAST_WRITE_ATTRIBUTE) instanceof Long lastWrite) {
+            return lastWrite;
+        }
+        if (request.getCookies() != null) {
+            for (Cookie cookie : request.getCookies()) {
+                if (LAST_WRITE_COOKIE.equals(cookie.getName())) {
+                    try {
+                        return Long.parseLong(cookie.getValue());
+                    } catch (NumberFormatException e) {
+                        return null;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    private void recordWrite(ServletRequestAttributes attributes) {
+        long now = System.currentTimeMillis();
+        boolean first = attributes.getRequest().getAttribute(LAST_WRITE_ATTRIBUTE) == null;
+        attributes.getRequest().setAttribute(LAST_WRITE_ATTRIBUTE, now);
+        HttpServletResponse response = attributes.getResponse();
+        if (first && response != null && !response.isCommitted()) {
+            response.addHeader(HttpHeaders.SET_COOKIE, ResponseCookie.from(LAST_WRITE_COOKIE, Long.toString(now))
+                    .path("/")
+                    .maxAge(Duration.ofMillis(readAfterWriteMillis).plusSeconds(1))
+                    .httpOnly(true)
+                    .sameSite("Lax")
+                    .build()
+                    .toString());
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.vivek.clubRegistration.config;
+
+import com.vivek.clubRegistration.model.Member;
+import com.vivek.clubRegistration.service.AdmissionControl;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.RequestBodyAdviceAdapter;
+
+import java.lang.reflect.Type;
+import java.util.List;
+
+/**
+ * Applies the per-domain bucket to JSON registrations as soon as the body is parsed,
+ * before bean validation and before the controller calls {@code MemberService}. A bulk
+ * body takes one token per member and is refused as a whole at the first one over.
+ */
+@ControllerAdvice
+@RequiredArgsConstructor
+public class RegistrationBodyAdmissionAdvice extends RequestBodyAdviceAdapter {
+
+    private final AdmissionControl admissionControl;
+
+    @Override
+    public boolean supports(MethodParameter methodParameter, Type targetType,
+                            Class<? extends HttpMessageConverter<?>> converterType) {
+        return admissionControl.isEnabled() && (methodParameter.getParameterType() == Member.class || isMemberList(targetType));
+    }
+
+    @Override
+    public Object afterBodyRead(Object body, HttpInputMessage inputMessage, MethodParameter parameter,
+                                Type targetType, Class<? extends HttpMessageConverter<?>> converterType) {
+        if (body instanceof Member member) {
+            admissionControl.admitEmail(member.getEmail());
+        } else {
+            for (Object element : (List<?>) body) {
+                if (element instanceof Member member) {
+                    admissionControl.admitEmail(member.getEmail());
+                }
+            }
+        }
+        return body;
+    }
+
+    private static boolean isMemberList(Type targetType) {
+        ResolvableType type = ResolvableType.forType(targetType);
+        return List.class.isAssignableFrom(type.toClass()) && type.getGeneric(0).toClass() == Member.class;
+    }
+}
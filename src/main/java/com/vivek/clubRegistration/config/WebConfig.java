@@ -0,0 +1,20 @@
+package com.vivek.clubRegistration.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebConfig implements WebMvcConfigurer {
+
+    private final AdmissionInterceptor admissionInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // Both registration paths: the web form and the JSON API (sync, async and bulk)
+        registry.addInterceptor(admissionInterceptor)
+                .addPathPatterns("/register", "/api/register", "/api/register/bulk");
+    }
+}
@@ -0,0 +1,34 @@
+package com.vivek.clubRegistration.config;
+
+import com.vivek.clubRegistration.model.FieldSelection;
+import org.springframework.boot.http.converter.autoconfigure.ServerHttpMessageConvertersCustomizer;
+import org.springframework.boot.jackson.autoconfigure.CborMapperBuilderCustomizer;
+import org.springframework.boot.jackson.autoconfigure.JsonMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.JacksonCborHttpMessageConverter;
+import tools.jackson.dataformat.cbor.CBORMapper;
+
+/**
+ * CBOR alongside JSON: clients sending {@code Accept: application/cbor} get the same responses
+ * as binary CBOR, without repeated property names as text or numbers and dates spelled out;
+ * everyone else still gets JSON. Both mappers come from Boot, so they share its settings.
+ */
+@Configuration(proxyBeanMethods = false)
+public class WireFormatConfig {
+
+    @Bean
+    JsonMapperBuilderCustomizer fieldSelectionJsonMapper() {
+        return FieldSelection::enable;
+    }
+
+    @Bean
+    CborMapperBuilderCustomizer fieldSelectionCborMapper() {
+        return FieldSelection::enable;
+    }
+
+    @Bean
+    ServerHttpMessageConvertersCustomizer cborMessageConverter(CBORMapper cborMapper) {
+        return converters -> converters.withCborConverter(new JacksonCborHttpMessageConverter(cborMapper));
+    }
+}
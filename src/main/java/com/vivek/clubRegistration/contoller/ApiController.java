@@ -1,23 +1,53 @@
 package com.vivek.clubRegistration.contoller;
 
+import com.vivek.clubRegistration.exception.InvalidRequestException;
+import com.vivek.clubRegistration.model.AnalyticsReport;
 import com.vivek.clubRegistration.model.ApiResponse;
+import com.vivek.clubRegistration.model.BatchOperationResult;
+import com.vivek.clubRegistration.model.BulkRegistrationResult;
 import com.vivek.clubRegistration.model.Member;          // ✅ FIXED: Added missing import
+import com.vivek.clubRegistration.model.RegistrationTicket;
+import com.vivek.clubRegistration.model.MemberSearchCriteria;
+import com.vivek.clubRegistration.model.MemberStatus;
+import com.vivek.clubRegistration.model.MemberSummary;
+import com.vivek.clubRegistration.model.WaitlistPosition;
+import com.vivek.clubRegistration.service.AnalyticsService;
+import com.vivek.clubRegistration.service.DataVersion;
+import com.vivek.clubRegistration.service.IdempotencyService;
+import com.vivek.clubRegistration.service.MemberExportService;
 import com.vivek.clubRegistration.service.MemberService;
+import com.vivek.clubRegistration.service.RegistrationQueue;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.net.URI;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("/api")
 @RequiredArgsConstructor
 public class ApiController {
 
+    private static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+
     private final MemberService memberService;
+    private final MemberExportService memberExportService;
+    private final RegistrationQueue registrationQueue;
+    private final DataVersion dataVersion;
+    private final IdempotencyService idempotencyService;
+    private final AnalyticsService analyticsService;
 
     // ════════════════════════════════════════════════════════
     //  PUBLIC ENDPOINTS
@@ -25,44 +55,155 @@ public class ApiController {
 
     /**
      * POST /api/register
-     * Register a new member (subject to all 4 rules)
+     * Register a new member (subject to all 4 rules).
+     * With an Idempotency-Key header, retries of the same registration replay the original response.
      */
-    @PostMapping("/register")
-    public ResponseEntity<ApiResponse<Member>> register(@Valid @RequestBody Member member) {
-        Member saved = memberService.registerMember(member);
+    @PostMapping(value = "/register", params = "!async")
+    public ResponseEntity<ApiResponse<Member>> register(
+            @Valid @RequestBody Member member,
+            @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey) {
+        if (idempotencyKey == null) {
+            return ResponseEntity.status(HttpStatus.CREATED).body(registration(member));
+        }
+        IdempotencyService.Outcome outcome = idempotencyService.execute(
+                idempotencyKey, idempotencyService.fingerprint(member), () -> registration(member));
         return ResponseEntity
                 .status(HttpStatus.CREATED)
-                .body(ApiResponse.ok(
-                        "Registration submitted successfully! Your application is pending admin approval.",
-                        saved
-                ));
+                .header("Idempotent-Replayed", String.valueOf(outcome.isReplayed()))
+                .body(outcome.getResponse());
+    }
+
+    private ApiResponse<Member> registration(Member member) {
+        Member saved = memberService.registerMember(member);
+        return ApiResponse.ok(saved.getStatus() == MemberStatus.WAITLISTED
+                        ? "The club is full, so you have been added to the waitlist. Check /api/waitlist/"
+                                + saved.getId() + " for your position."
+                        : "Registration submitted successfully! Your application is pending admin approval.",
+                saved);
+    }
+
+    /**
+     * POST /api/register?async=true
+     * Validate cheaply and queue the registration; poll the returned tracking ID for the outcome
+     */
+    @PostMapping(value = "/register", params = "async=true")
+    public ResponseEntity<ApiResponse<RegistrationTicket>> registerAsync(@Valid @RequestBody Member member) {
+        memberService.checkAge(member);
+        RegistrationTicket ticket = registrationQueue.submit(member);
+        return ResponseEntity
+                .status(HttpStatus.ACCEPTED)
+                .location(URI.create("/api/register/status/" + ticket.getTrackingId()))
+                .body(ApiResponse.ok("Registration accepted for processing.", ticket));
+    }
+
+    /**
+     * GET /api/register/status/{trackingId}
+     * Outcome of an asynchronous registration
+     */
+    @GetMapping("/register/status/{trackingId}")
+    public ResponseEntity<ApiResponse<RegistrationTicket>> registrationStatus(@PathVariable String trackingId) {
+        return registrationQueue.find(trackingId)
+                .map(t -> ResponseEntity.ok(ApiResponse.ok("Registration " + t.getStatus().name().toLowerCase(), t)))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(ApiResponse.error("Unknown or expired tracking ID: " + trackingId)));
     }
 
     /**
-     * GET /api/members
-     * Get all members (all statuses)
+     * POST /api/register/bulk
+     * Register many members in one request; returns one result per submitted row
+     */
+    @PostMapping("/register/bulk")
+    public ResponseEntity<ApiResponse<List<BulkRegistrationResult>>> registerBulk(@RequestBody List<Member> members) {
+        List<BulkRegistrationResult> results = memberService.registerMembers(members);
+        long registered = results.stream().filter(BulkRegistrationResult::isSuccess).count();
+        return ResponseEntity.ok(ApiResponse.ok(
+                registered + " of " + results.size() + " registrations submitted.", results));
+    }
+
+    /**
+     * GET /api/members?limit=50&cursor=...
+     * Get all members (all statuses), newest first, one keyset page at a time
      */
     @GetMapping("/members")
-    public ResponseEntity<ApiResponse<List<Member>>> getAllMembers() {
-        return ResponseEntity.ok(ApiResponse.ok("All members", memberService.getAllMembers()));
+    public ResponseEntity<ApiResponse<List<MemberSummary>>> getAllMembers(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            WebRequest request) {
+        return conditional(request, dataVersion.etag(null), () -> ApiResponse.page("All members",
+                memberService.getMembersPage(null, cursor, limit)));
     }
 
     /**
-     * GET /api/members/approved
+     * GET /api/members/approved?limit=50&cursor=...
      * Get only approved members
      */
     @GetMapping("/members/approved")
-    public ResponseEntity<ApiResponse<List<Member>>> getApprovedMembers() {
-        return ResponseEntity.ok(ApiResponse.ok("Approved members", memberService.getApprovedMembers()));
+    public ResponseEntity<ApiResponse<List<MemberSummary>>> getApprovedMembers(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            WebRequest request) {
+        return conditional(request, dataVersion.etag(MemberStatus.APPROVED), () -> ApiResponse.page("Approved members",
+                memberService.getMembersPage(MemberStatus.APPROVED, cursor, limit)));
     }
 
     /**
-     * GET /api/members/pending
+     * GET /api/members/pending?limit=50&cursor=...
      * Get all pending applications
      */
     @GetMapping("/members/pending")
-    public ResponseEntity<ApiResponse<List<Member>>> getPendingMembers() {
-        return ResponseEntity.ok(ApiResponse.ok("Pending members", memberService.getPendingMembers()));
+    public ResponseEntity<ApiResponse<List<MemberSummary>>> getPendingMembers(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            WebRequest request) {
+        return conditional(request, dataVersion.etag(MemberStatus.PENDING), () -> ApiResponse.page("Pending members",
+                memberService.getMembersPage(MemberStatus.PENDING, cursor, limit)));
+    }
+
+    /**
+     * GET /api/members/export?format=ndjson|csv
+     * Stream every member row as it is read — constant memory regardless of table size
+     */
+    @GetMapping("/members/export")
+    public ResponseEntity<StreamingResponseBody> exportMembers(
+            @RequestParam(defaultValue = "ndjson") String format) {
+        return switch (format.toLowerCase()) {
+            case "ndjson" -> ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_NDJSON)
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"members.ndjson\"")
+                    .body(memberExportService::exportNdjson);
+            case "csv" -> ResponseEntity.ok()
+                    .contentType(new MediaType("text", "csv"))
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"members.csv\"")
+                    .body(memberExportService::exportCsv);
+            default -> throw new InvalidRequestException("Unsupported export format: " + format);
+        };
+    }
+
+    /**
+     * GET /api/members/search?status=PENDING&type=GOLD&from=2025-01-01&to=2025-12-31&q=jo&match=prefix|contains
+     * Filtered, indexed search over all members; pages with the same cursor as the listings
+     */
+    @GetMapping("/members/search")
+    public ResponseEntity<ApiResponse<List<MemberSummary>>> searchMembers(
+            @RequestParam(required = false) MemberStatus status,
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String q,
+            @RequestParam(defaultValue = "prefix") String match,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            WebRequest request) {
+        MemberSearchCriteria criteria = MemberSearchCriteria.builder()
+                .status(status)
+                .membershipType(type)
+                .registeredFrom(from)
+                .registeredTo(to)
+                .query(q)
+                .match(MemberSearchCriteria.Match.valueOf(match.toUpperCase()))
+                .build();
+        return conditional(request, dataVersion.etag(criteria.getStatus()), () -> ApiResponse.page("Search results",
+                memberService.searchMembers(criteria, cursor, limit)));
     }
 
     /**
@@ -74,13 +215,41 @@ public class ApiController {
         return ResponseEntity.ok(ApiResponse.ok("Member found", memberService.findById(id)));
     }
 
+    /**
+     * GET /api/waitlist/{id}
+     * A member's current waitlist position; null once they have been promoted
+     */
+    @GetMapping("/waitlist/{id}")
+    public ResponseEntity<ApiResponse<WaitlistPosition>> waitlistPosition(@PathVariable Long id) {
+        WaitlistPosition position = memberService.getWaitlistPosition(id);
+        return ResponseEntity.ok(ApiResponse.ok(position.getPosition() == null
+                ? "Member is not on the waitlist (status " + position.getStatus() + ")."
+                : "Position " + position.getPosition() + " of " + position.getWaitlistSize() + " on the waitlist.",
+                position));
+    }
+
     /**
      * GET /api/stats
      * Get club statistics (capacity, counts per status)
      */
     @GetMapping("/stats")
-    public ResponseEntity<ApiResponse<Map<String, Object>>> getStats() {
-        return ResponseEntity.ok(ApiResponse.ok("Club statistics", memberService.getStats()));
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getStats(WebRequest request) {
+        return conditional(request, dataVersion.etag(), () -> ApiResponse.ok("Club statistics", memberService.getStats()));
+    }
+
+    /**
+     * GET /api/analytics?from=2026-01-01&to=2026-01-31&type=GOLD
+     * Daily event counts and approval lead times for a date range (default: the last 30 days),
+     * plus the current tier/status mix and age histogram
+     */
+    @GetMapping("/analytics")
+    public ResponseEntity<ApiResponse<AnalyticsReport>> analytics(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String type) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(29);
+        return ResponseEntity.ok(ApiResponse.ok("Analytics", analyticsService.report(start, end, type)));
     }
 
     // ════════════════════════════════════════════════════════
@@ -109,6 +278,54 @@ public class ApiController {
         return ResponseEntity.ok(ApiResponse.ok("Member rejected.", updated));
     }
 
+    /**
+     * POST /api/admin/batch/approve   body: [1, 2, 3]
+     * Approve many members at once; oldest applications get the remaining slots first
+     */
+    @PostMapping("/admin/batch/approve")
+    public ResponseEntity<ApiResponse<BatchOperationResult>> approveBatch(@RequestBody List<Long> ids) {
+        BatchOperationResult result = memberService.approveMembers(ids);
+        return ResponseEntity.ok(ApiResponse.ok(result.summary("Approved"), result));
+    }
+
+    /**
+     * POST /api/admin/batch/reject?note=reason   body: [1, 2, 3]
+     */
+    @PostMapping("/admin/batch/reject")
+    public ResponseEntity<ApiResponse<BatchOperationResult>> rejectBatch(
+            @RequestBody List<Long> ids,
+            @RequestParam(defaultValue = "Does not meet membership requirements") String note) {
+        BatchOperationResult result = memberService.rejectMembers(ids, note);
+        return ResponseEntity.ok(ApiResponse.ok(result.summary("Rejected"), result));
+    }
+
+    /**
+     * POST /api/admin/batch/delete   body: [1, 2, 3]
+     */
+    @PostMapping("/admin/batch/delete")
+    public ResponseEntity<ApiResponse<BatchOperationResult>> deleteBatch(@RequestBody List<Long> ids) {
+        BatchOperationResult result = memberService.deleteMembers(ids);
+        return ResponseEntity.ok(ApiResponse.ok(result.summary("Deleted"), result));
+    }
+
+    /**
+     * POST /api/admin/stats/resync
+     * Rebuild the cached statistics from the database
+     */
+    @PostMapping("/admin/stats/resync")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> resyncStats() {
+        return ResponseEntity.ok(ApiResponse.ok("Statistics resynchronised", memberService.resyncStats()));
+    }
+
+    /**
+     * POST /api/admin/analytics/backfill
+     * Rebuild the analytics rollups from the member tables (once, after upgrading)
+     */
+    @PostMapping("/admin/analytics/backfill")
+    public ResponseEntity<ApiResponse<Map<String, Long>>> backfillAnalytics() {
+        return ResponseEntity.ok(ApiResponse.ok("Analytics rebuilt", analyticsService.backfill()));
+    }
+
     /**
      * DELETE /api/admin/delete/{id}
      * Delete a member record
@@ -118,4 +335,29 @@ public class ApiController {
         memberService.deleteMember(id);
         return ResponseEntity.ok(ApiResponse.ok("Member deleted successfully.", null));
     }
-}
\ No newline at end of file
+
+    // ════════════════════════════════════════════════════════
+    //  CONDITIONAL GET
+    // ════════════════════════════════════════════════════════
+    /**
+     * Answers 304 when the client's If-None-Match still matches {@code etag}, without
+     * building the body — only the version row behind the tag is read. Otherwise the body is built and
+     * sent with the ETag (set by checkNotModified) and no-cache, so clients always revalidate.
+     *
+     * <p>The ETags are weak ({@code W/"..."}): they name a version of the data, not of the bytes.
+     * The same version goes out as JSON or CBOR, gzipped or not, and Tomcat won't compress a
+     * response carrying a strong ETag. Weak tags are all If-None-Match needs; they can't back
+     * If-Match or range requests, which these endpoints don't offer. Caches must key on Accept
+     * as well, since both formats share a tag.
+     */
+    private <T> ResponseEntity<ApiResponse<T>> conditional(WebRequest request, String etag,
+                                                           Supplier<ApiResponse<T>> body) {
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(body.get());
+    }
+}
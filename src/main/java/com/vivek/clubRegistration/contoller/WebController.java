@@ -1,21 +1,36 @@
 package com.vivek.clubRegistration.contoller;
 
+import com.vivek.clubRegistration.exception.InvalidRequestException;
+import com.vivek.clubRegistration.exception.RateLimitException;
 import com.vivek.clubRegistration.exception.RegistrationException;
+import com.vivek.clubRegistration.model.BatchOperationResult;
+import com.vivek.clubRegistration.model.CursorPage;
 import com.vivek.clubRegistration.model.Member;
+import com.vivek.clubRegistration.model.MemberSearchCriteria;
+import com.vivek.clubRegistration.model.MemberStatus;
+import com.vivek.clubRegistration.model.MemberSummary;
+import com.vivek.clubRegistration.service.AdminEventBroadcaster;
 import com.vivek.clubRegistration.service.MemberService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
+import java.time.LocalDate;
+import java.util.List;
+
 @Controller
 @RequiredArgsConstructor
 public class WebController {
 
     private final MemberService memberService;
+    private final AdminEventBroadcaster adminEvents;
 
     // ── Home → Redirect to Register ────────────────────────
     @GetMapping("/")
@@ -49,6 +64,10 @@ public class WebController {
         try {
             Member saved = memberService.registerMember(member);
             redirectAttrs.addFlashAttribute("registeredMember", saved);
+            if (saved.getStatus() == MemberStatus.WAITLISTED) {
+                redirectAttrs.addFlashAttribute("waitlistPosition",
+                        memberService.getWaitlistPosition(saved.getId()).getPosition());
+            }
             return "redirect:/success";
         } catch (RegistrationException e) {
             model.addAttribute("errorMessage", e.getMessage());
@@ -58,6 +77,16 @@ public class WebController {
         }
     }
 
+    // ── Admission control refused the form post ─────────────
+    // Thrown by AdmissionInterceptor before submitRegisterForm runs; a browser gets the form
+    // back with the reason instead of the JSON 429 the API clients get
+    @ExceptionHandler(RateLimitException.class)
+    public String registrationRateLimited(RateLimitException e, RedirectAttributes redirectAttrs) {
+        redirectAttrs.addFlashAttribute("errorMessage", e.getMessage());
+        redirectAttrs.addFlashAttribute("errorRule", "RATE_LIMITED");
+        return "redirect:/register";
+    }
+
     // ── Success Page ────────────────────────────────────────
     @GetMapping("/success")
     public String successPage(Model model) {
@@ -73,13 +102,49 @@ public class WebController {
     // ═══════════════════════════════════════════════════════
 
     @GetMapping("/admin")
-    public String adminDashboard(Model model) {
-        model.addAttribute("allMembers",     memberService.getAllMembers());
-        model.addAttribute("pendingMembers", memberService.getPendingMembers());
+    public String adminDashboard(@RequestParam(required = false) MemberStatus status,
+                                 @RequestParam(required = false) String type,
+                                 @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                 @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                 @RequestParam(required = false) String q,
+                                 @RequestParam(defaultValue = "PREFIX") MemberSearchCriteria.Match match,
+                                 @RequestParam(required = false) String cursor,
+                                 @RequestParam(required = false) String pendingCursor,
+                                 Model model) {
+        // "All Applications" is one filtered page at a time instead of the whole table
+        MemberSearchCriteria criteria = MemberSearchCriteria.builder()
+                .status(status).membershipType(type)
+                .registeredFrom(from).registeredTo(to)
+                .query(q).match(match)
+                .build();
+        CursorPage<MemberSummary> page;
+        try {
+            page = memberService.searchMembers(criteria, cursor, null);
+        } catch (InvalidRequestException e) {
+            model.addAttribute("errorMsg", e.getMessage());
+            page = memberService.searchMembers(MemberSearchCriteria.builder().build(), null, null);
+        }
+        model.addAttribute("search",         criteria);
+        model.addAttribute("allMembers",     page.getItems());
+        model.addAttribute("nextCursor",     page.getNextCursor());
+        model.addAttribute("firstUnfilteredPage", cursor == null && status == null && type == null
+                && from == null && to == null && (q == null || q.isBlank()));
+        // The review queue is paged too, so a backlog of applications can't blow up the page
+        CursorPage<MemberSummary> pending = memberService.getMembersPage(MemberStatus.PENDING, pendingCursor, null);
+        model.addAttribute("pendingMembers",    pending.getItems());
+        model.addAttribute("pendingNextCursor", pending.getNextCursor());
+        model.addAttribute("firstPendingPage",  pendingCursor == null);
         model.addAttribute("stats",          memberService.getStats());
         return "admin";
     }
 
+    // ── Live dashboard updates (Server-Sent Events) ────────
+    @GetMapping(value = "/admin/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @ResponseBody
+    public SseEmitter adminEvents() {
+        return adminEvents.subscribe();
+    }
+
     @PostMapping("/admin/approve/{id}")
     public String approve(@PathVariable Long id, RedirectAttributes redirectAttrs) {
         try {
@@ -104,6 +169,39 @@ public class WebController {
         return "redirect:/admin";
     }
 
+    @PostMapping("/admin/batch")
+    public String batch(@RequestParam String action,
+                        @RequestParam(required = false) List<Long> ids,
+                        @RequestParam(defaultValue = "Does not meet membership requirements") String note,
+                        RedirectAttributes redirectAttrs) {
+        if (ids == null || ids.isEmpty()) {
+            redirectAttrs.addFlashAttribute("errorMsg", "Select at least one application.");
+            return "redirect:/admin";
+        }
+        BatchOperationResult result;
+        try {
+            result = switch (action) {
+                case "approve" -> memberService.approveMembers(ids);
+                case "reject"  -> memberService.rejectMembers(ids, note);
+                case "delete"  -> memberService.deleteMembers(ids);
+                default -> throw new InvalidRequestException("Unknown batch action: " + action);
+            };
+        } catch (InvalidRequestException e) {
+            // Too many ids or an unknown action — report it like the other admin forms
+            redirectAttrs.addFlashAttribute("errorMsg", e.getMessage());
+            return "redirect:/admin";
+        }
+        String verb = switch (action) {
+            case "approve" -> "Approved";
+            case "reject"  -> "Rejected";
+            default        -> "Deleted";
+        };
+        redirectAttrs.addFlashAttribute(result.getSucceeded().isEmpty() ? "errorMsg" : "successMsg",
+                result.summary(verb) + (result.getFailed().isEmpty() ? "" : " " + String.join(" ",
+                        result.getFailed().values().stream().distinct().toList())));
+        return "redirect:/admin";
+    }
+
     @PostMapping("/admin/delete/{id}")
     public String delete(@PathVariable Long id, RedirectAttributes redirectAttrs) {
         try {
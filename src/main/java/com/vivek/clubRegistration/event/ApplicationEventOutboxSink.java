@@ -0,0 +1,27 @@
+package com.vivek.clubRegistration.event;
+
+import com.vivek.clubRegistration.model.OutboxEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Republishes each delivered {@link OutboxEvent} as an application event, for in-process
+ * consumers ({@code @EventListener(OutboxEvent.class)}) and tests. A listener that throws
+ * fails the batch, which is then delivered again.
+ */
+@Component
+@ConditionalOnProperty(name = "club.outbox.sink", havingValue = "events", matchIfMissing = true)
+@RequiredArgsConstructor
+public class ApplicationEventOutboxSink implements OutboxSink {
+
+    private final ApplicationEventPublisher events;
+
+    @Override
+    public void deliver(List<OutboxEvent> batch) {
+        batch.forEach(events::publishEvent);
+    }
+}
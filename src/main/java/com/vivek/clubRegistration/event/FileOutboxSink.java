@@ -0,0 +1,63 @@
+package com.vivek.clubRegistration.event;
+
+import com.vivek.clubRegistration.model.OutboxEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Appends delivered events to an NDJSON file, one line per event, and forces the batch to
+ * disk before the relay deletes it from the outbox. A crash in between repeats the batch, so
+ * readers should skip IDs they have already seen.
+ */
+@Component
+@ConditionalOnProperty(name = "club.outbox.sink", havingValue = "file")
+public class FileOutboxSink implements OutboxSink {
+
+    private final JsonMapper jsonMapper;
+    private final Path path;
+
+    public FileOutboxSink(JsonMapper jsonMapper,
+                          @Value("${club.outbox.file.path:outbox/member-events.ndjson}") Path path) throws IOException {
+        this.jsonMapper = jsonMapper;
+        this.path = path.toAbsolutePath();
+        Files.createDirectories(this.path.getParent());
+    }
+
+    @Override
+    public synchronized void deliver(List<OutboxEvent> batch) {
+        StringBuilder lines = new StringBuilder();
+        for (OutboxEvent event : batch) {
+            Map<String, Object> line = new LinkedHashMap<>();
+            line.put("id", event.getId());
+            line.put("memberId", event.getMemberId());
+            line.put("type", event.getEventType());
+            line.put("createdAt", event.getCreatedAt());
+            line.put("event", jsonMapper.readTree(event.getPayload()));
+            lines.append(jsonMapper.writeValueAsString(line)).append('\n');
+        }
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer bytes = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+            channel.force(false);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not append outbox events to " + path, e);
+        }
+    }
+}
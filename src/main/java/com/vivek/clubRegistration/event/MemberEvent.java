@@ -0,0 +1,47 @@
+package com.vivek.clubRegistration.event;
+
+import com.vivek.clubRegistration.model.Member;
+import com.vivek.clubRegistration.model.MemberStatus;
+import com.vivek.clubRegistration.model.MemberSummary;
+import lombok.Value;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Published by {@code MemberService} inside the transaction that changes a member.
+ * Listeners that keep derived state should use {@code @TransactionalEventListener}
+ * so they only see changes that actually committed.
+ */
+@Value
+public class MemberEvent {
+
+    public enum Type { REGISTERED, APPROVED, REJECTED, DELETED, ARCHIVED, PROMOTED }
+
+    Type type;
+    Long memberId;
+    String email;
+    String membershipType;
+    MemberStatus previousStatus;   // null for REGISTERED
+    MemberStatus newStatus;        // null for DELETED and ARCHIVED
+    LocalDateTime occurredAt;
+    MemberSummary member;          // row snapshot for live views
+    LocalDate dateOfBirth;         // for analytics rollups
+    LocalDateTime approvedAt;
+
+    public static MemberEvent of(Type type, Member member, MemberStatus previousStatus) {
+        return new MemberEvent(
+                type,
+                member.getId(),
+                member.getEmail(),
+                member.getMembershipType(),
+                previousStatus,
+                type == Type.DELETED || type == Type.ARCHIVED ? null : member.getStatus(),
+                LocalDateTime.now(),
+                new MemberSummary(member.getId(), member.getFullName(), member.getEmail(), member.getPhone(),
+                        member.getMembershipType(), member.getStatus(), member.getRegisteredAt(),
+                        member.getDateOfBirth()),
+                member.getDateOfBirth(),
+                member.getApprovedAt());
+    }
+}
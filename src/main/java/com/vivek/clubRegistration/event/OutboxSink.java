@@ -0,0 +1,17 @@
+package com.vivek.clubRegistration.event;
+
+import com.vivek.clubRegistration.model.OutboxEvent;
+
+import java.util.List;
+
+/**
+ * Destination for member events drained from the outbox. Delivery is at least once: a batch
+ * is retried whole if {@code deliver} throws or the relay fails before deleting it, so
+ * consumers should de-duplicate on {@link OutboxEvent#getId()}. Events arrive in ID order,
+ * which keeps every member's events in the order they committed. Selected with
+ * {@code club.outbox.sink}.
+ */
+public interface OutboxSink {
+
+    void deliver(List<OutboxEvent> batch);
+}
@@ -0,0 +1,18 @@
+package com.vivek.clubRegistration.exception;
+
+/**
+ * Thrown when a bounded intake queue is full. Mapped to 503 with a Retry-After hint.
+ */
+public class BackPressureException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public BackPressureException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,13 @@
+package com.vivek.clubRegistration.exception;
+
+/**
+ * Thrown when a request parameter or body is malformed or out of range (bad cursor, page
+ * size, search filter, batch size). Mapped to 400 with the message, which is meant for the
+ * client; other exceptions never have their message echoed.
+ */
+public class InvalidRequestException extends RuntimeException {
+
+    public InvalidRequestException(String message) {
+        super(message);
+    }
+}
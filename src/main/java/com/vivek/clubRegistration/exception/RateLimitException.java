@@ -0,0 +1,19 @@
+package com.vivek.clubRegistration.exception;
+
+/**
+ * Thrown by admission control before a registration reaches the service layer.
+ * Mapped to 429 with a Retry-After hint.
+ */
+public class RateLimitException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public RateLimitException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
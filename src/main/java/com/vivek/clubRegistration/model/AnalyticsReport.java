@@ -0,0 +1,33 @@
+package com.vivek.clubRegistration.model;
+
+import lombok.Value;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Answer of {@code GET /api/analytics}. {@code days} and {@code totals} count member events
+ * (REGISTERED, APPROVED, ...) in the requested range; {@code mix} and {@code ageHistogram}
+ * describe current members regardless of the range. Age buckets are labelled by age at
+ * registration, e.g. {@code "20-29"}.
+ */
+@Value
+public class AnalyticsReport {
+
+    LocalDate from;
+    LocalDate to;
+    String membershipType;                              // null = all tiers
+    List<Day> days;                                     // only days with events
+    Map<String, Long> totals;
+    Double averageApprovalHours;                        // null when nothing was approved
+    Map<String, Map<MemberStatus, Long>> mix;           // tier -> status -> members
+    Map<String, Map<MemberStatus, Long>> ageHistogram;  // bucket -> status -> members
+
+    @Value
+    public static class Day {
+        LocalDate day;
+        Map<String, Long> events;
+        Double averageApprovalHours;
+    }
+}
@@ -1,10 +1,13 @@
 package com.vivek.clubRegistration.model;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
+
 @Data
 @Builder
 @NoArgsConstructor
@@ -15,6 +18,10 @@ public class ApiResponse<T> {
     private String message;
     private T data;
 
+    // Opaque keyset cursor for the next page; omitted on non-paged responses and the last page
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
+
     public static <T> ApiResponse<T> ok(String message, T data) {
         return ApiResponse.<T>builder()
                 .success(true)
@@ -23,6 +30,15 @@ public class ApiResponse<T> {
                 .build();
     }
 
+    public static <T> ApiResponse<List<T>> page(String message, CursorPage<T> page) {
+        return ApiResponse.<List<T>>builder()
+                .success(true)
+                .message(message)
+                .data(page.getItems())
+                .nextCursor(page.getNextCursor())
+                .build();
+    }
+
     public static <T> ApiResponse<T> error(String message) {
         return ApiResponse.<T>builder()
                 .success(false)
@@ -0,0 +1,65 @@
+package com.vivek.clubRegistration.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * A member moved out of {@code members} by {@code MemberArchiver}. Keeps the original id and
+ * every column, so a row can be inspected or restored, and its email still counts for the
+ * duplicate-email rule.
+ */
+@Entity
+@Table(
+        name = "members_archive",
+        indexes = {
+                // Duplicate-email lookups on the registration path
+                @Index(name = "idx_members_archive_email", columnList = "email"),
+                @Index(name = "idx_members_archive_archived_at", columnList = "archived_at")
+        }
+)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchivedMember {
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false, length = 100)
+    private String fullName;
+
+    @Column(nullable = false, length = 150)
+    private String email;
+
+    @Column(nullable = false, length = 20)
+    private String phone;
+
+    @Column(nullable = false)
+    private LocalDate dateOfBirth;
+
+    @Column(nullable = false, length = 20)
+    private String membershipType;
+
+    @Column(length = 255)
+    private String address;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private MemberStatus status;
+
+    @Column(nullable = false)
+    private LocalDateTime registeredAt;
+
+    private LocalDateTime approvedAt;
+
+    @Column(length = 500)
+    private String adminNote;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -0,0 +1,21 @@
+package com.vivek.clubRegistration.model;
+
+import lombok.Value;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Outcome of a batch admin action: IDs that were changed, and the reason for every ID that was not.
+ */
+@Value
+public class BatchOperationResult {
+
+    List<Long> succeeded;
+    Map<Long, String> failed;
+
+    public String summary(String verb) {
+        return verb + " " + succeeded.size() + " member(s)"
+                + (failed.isEmpty() ? "." : "; " + failed.size() + " failed.");
+    }
+}
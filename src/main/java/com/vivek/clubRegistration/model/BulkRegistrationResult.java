@@ -0,0 +1,27 @@
+package com.vivek.clubRegistration.model;
+
+import lombok.Value;
+
+/**
+ * Outcome of one row in a bulk registration request.
+ * {@code index} is the row's position in the submitted array.
+ */
+@Value
+public class BulkRegistrationResult {
+
+    int index;
+    String email;
+    boolean success;
+    Long memberId;
+    MemberStatus status;   // PENDING or WAITLISTED when success is true
+    String rule;     // violated rule when success is false
+    String message;
+
+    public static BulkRegistrationResult registered(int index, Member member) {
+        return new BulkRegistrationResult(index, member.getEmail(), true, member.getId(), member.getStatus(), null, null);
+    }
+
+    public static BulkRegistrationResult rejected(int index, String email, String rule, String message) {
+        return new BulkRegistrationResult(index, email, false, null, null, rule, message);
+    }
+}
@@ -0,0 +1,28 @@
+package com.vivek.clubRegistration.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Persistent slot counter for a capacity-limited resource. {@code used} is changed either
+ * by the conditional UPDATEs in {@code ClubCapacityRepository} or on an entity loaded with
+ * {@code findByNameForUpdate} (bulk reservations, reconciliation), so every write is
+ * checked against the limit or holds the row lock, and concurrent reservations can never
+ * push it past the configured limit.
+ */
+@Entity
+@Table(name = "club_capacity")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClubCapacity {
+
+    @Id
+    @Column(length = 50)
+    private String name;
+
+    @Column(nullable = false)
+    private long used;
+}
@@ -0,0 +1,15 @@
+package com.vivek.clubRegistration.model;
+
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated listing. {@code nextCursor} is null on the last page.
+ */
+@Value
+public class CursorPage<T> {
+
+    List<T> items;
+    String nextCursor;
+}
@@ -0,0 +1,42 @@
+package com.vivek.clubRegistration.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Count of one member event type per day and membership tier, with the summed approval lead
+ * time ({@code approvedAt - registeredAt}) for APPROVED. Transactions append delta rows and
+ * readers sum them, so a key may briefly have several rows until {@code AnalyticsService}
+ * compacts them.
+ */
+@Entity
+@Table(name = "member_daily_rollup",
+        indexes = @Index(name = "idx_daily_rollup_day", columnList = "rollup_day"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "rollup_day", nullable = false)
+    private LocalDate day;
+
+    @Column(nullable = false, length = 20)
+    private String membershipType;
+
+    @Column(nullable = false, length = 20)
+    private String eventType;
+
+    @Column(nullable = false)
+    private long events;
+
+    @Column(nullable = false)
+    private long leadTimeSeconds;
+}
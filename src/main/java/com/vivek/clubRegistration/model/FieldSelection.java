@@ -0,0 +1,35 @@
+package com.vivek.clubRegistration.model;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.cfg.MapperBuilder;
+import tools.jackson.databind.ser.FilterProvider;
+import tools.jackson.databind.ser.std.SimpleBeanPropertyFilter;
+import tools.jackson.databind.ser.std.SimpleFilterProvider;
+
+/**
+ * Which member types {@code ?fields=} applies to. The filter is attached as a mix-in by
+ * {@link #enable}, not annotated on the models, so only mappers configured for it look the
+ * filter up; any other mapper serializes members in full without needing a filter provider.
+ */
+public final class FieldSelection {
+
+    public static final String FILTER_ID = "fieldSelection";
+    public static final FilterProvider ALL_FIELDS =
+            new SimpleFilterProvider().addFilter(FILTER_ID, SimpleBeanPropertyFilter.serializeAll());
+
+    private FieldSelection() {
+    }
+
+    /** Attaches the filter to the member types and serializes all fields unless a request narrows them. */
+    public static <M extends ObjectMapper, B extends MapperBuilder<M, B>> B enable(B builder) {
+        return builder
+                .addMixIn(Member.class, Filtered.class)
+                .addMixIn(MemberSummary.class, Filtered.class)
+                .filterProvider(ALL_FIELDS);
+    }
+
+    @JsonFilter(FILTER_ID)
+    private interface Filtered {
+    }
+}
@@ -0,0 +1,36 @@
+package com.vivek.clubRegistration.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Stored outcome of a registration made with an {@code Idempotency-Key}, so retries are
+ * answered with the original response even after a restart. Written in the same
+ * transaction as the member it describes.
+ */
+@Entity
+@Table(name = "idempotency_keys",
+        indexes = @Index(name = "idx_idempotency_created_at", columnList = "created_at"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdempotencyRecord {
+
+    @Id
+    @Column(name = "idempotency_key", length = 255)
+    private String key;
+
+    // What the key was first used for; a retry with a different request is refused
+    @Column(nullable = false, length = 150)
+    private String fingerprint;
+
+    @Column(nullable = false, length = 8000)
+    private String responseBody;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -3,6 +3,8 @@ package com.vivek.clubRegistration.model;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -13,16 +15,32 @@ import java.time.Period;
         name = "members",
         uniqueConstraints = {
                 @UniqueConstraint(columnNames = "email", name = "uk_member_email")
+        },
+        indexes = {
+                // Keyset pagination: (registeredAt DESC, id DESC), optionally filtered by status
+                @Index(name = "idx_member_registered_at_id", columnList = "registered_at, id"),
+                @Index(name = "idx_member_status_registered_at_id", columnList = "status, registered_at, id"),
+                // Search filters; PostgreSQL prefix/trigram indexes live in the V3 migration
+                @Index(name = "idx_member_type_status", columnList = "membership_type, status"),
+                @Index(name = "idx_member_full_name", columnList = "full_name")
         }
 )
+// Second-level cache; region sizes and expiry are in hibernate-cache.conf
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Member.CACHE_REGION)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class Member {
 
+    public static final String CACHE_REGION = "member";
+    public static final String LIST_CACHE_REGION = "member-lists";
+
+    // Pooled sequence (not IDENTITY) so Hibernate can batch inserts
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "member_seq")
+    @SequenceGenerator(name = "member_seq", sequenceName = "member_id_seq", allocationSize = 50)
     private Long id;
 
     // ── Personal Info ──────────────────────────────────────
@@ -33,7 +51,7 @@ public class Member {
 
     @NotBlank(message = "Email is required")
     @Email(message = "Please enter a valid email address")
-    @Column(nullable = false, unique = true, length = 150)
+    @Column(nullable = false, length = 150) // unique via uk_member_email
     private String email;
 
     @NotBlank(message = "Phone number is required")
@@ -0,0 +1,42 @@
+package com.vivek.clubRegistration.model;
+
+import com.vivek.clubRegistration.exception.InvalidRequestException;
+import lombok.Value;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Keyset position in a member listing ordered by (registeredAt DESC, id DESC).
+ * Clients only ever see the opaque encoded form.
+ */
+@Value
+public class MemberCursor {
+
+    LocalDateTime registeredAt;
+    Long id;
+
+    public static MemberCursor of(MemberSummary member) {
+        return new MemberCursor(member.getRegisteredAt(), member.getId());
+    }
+
+    public String encode() {
+        String raw = registeredAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static MemberCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int sep = raw.indexOf('|');
+            return new MemberCursor(
+                    LocalDateTime.parse(raw.substring(0, sep)),
+                    Long.parseLong(raw.substring(sep + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new InvalidRequestException("Invalid cursor: " + cursor);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.vivek.clubRegistration.model;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDate;
+
+/**
+ * Filters for the member search. Every field is optional; null means "don't filter".
+ * {@code query} is matched against the start of the name or email, or anywhere in them
+ * when {@code match} is {@link Match#CONTAINS}.
+ */
+@Value
+@Builder(toBuilder = true)
+public class MemberSearchCriteria {
+
+    public enum Match { PREFIX, CONTAINS }
+
+    MemberStatus status;
+    String membershipType;
+    LocalDate registeredFrom;   // inclusive
+    LocalDate registeredTo;     // inclusive
+    String query;
+    @Builder.Default
+    Match match = Match.PREFIX;
+}
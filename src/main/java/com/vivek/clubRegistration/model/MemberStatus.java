@@ -3,5 +3,6 @@ package com.vivek.clubRegistration.model;
 public enum MemberStatus {
     PENDING,    // Awaiting admin review
     APPROVED,   // Active club member
-    REJECTED    // Rejected by admin
+    REJECTED,   // Rejected by admin
+    WAITLISTED  // Registered while the club was full; promoted to PENDING when a slot frees
 }
\ No newline at end of file
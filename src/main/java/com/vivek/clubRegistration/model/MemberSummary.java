@@ -0,0 +1,37 @@
+package com.vivek.clubRegistration.model;
+
+import lombok.Value;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Period;
+
+/**
+ * Read-only row for member listings. Selected with a JPQL constructor expression, so no
+ * entity is hydrated or tracked, and the age is worked out once per row instead of on
+ * every getter call. The full {@link Member} is only loaded for single-member lookups.
+ */
+@Value
+public class MemberSummary {
+
+    Long id;
+    String fullName;
+    String email;
+    String phone;
+    String membershipType;
+    MemberStatus status;
+    LocalDateTime registeredAt;
+    int age;
+
+    public MemberSummary(Long id, String fullName, String email, String phone, String membershipType,
+                         MemberStatus status, LocalDateTime registeredAt, LocalDate dateOfBirth) {
+        this.id = id;
+        this.fullName = fullName;
+        this.email = email;
+        this.phone = phone;
+        this.membershipType = membershipType;
+        this.status = status;
+        this.registeredAt = registeredAt;
+        this.age = dateOfBirth == null ? 0 : Period.between(dateOfBirth, LocalDate.now()).getYears();
+    }
+}
@@ -0,0 +1,37 @@
+package com.vivek.clubRegistration.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Current members per tier, status and age bucket (age at registration, so a member never
+ * changes bucket). Rows hold +/- deltas that are summed on read and compacted periodically,
+ * like {@link DailyRollup}.
+ */
+@Entity
+@Table(name = "member_mix_rollup")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MixRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 20)
+    private String membershipType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private MemberStatus status;
+
+    // Lower bound of the bucket in years, e.g. 20 for 20-29
+    @Column(nullable = false)
+    private int ageBucket;
+
+    @Column(nullable = false)
+    private long members;
+}
@@ -0,0 +1,39 @@
+package com.vivek.clubRegistration.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * A committed member lifecycle event waiting to be handed to the outbox sink. Rows are
+ * inserted in the transaction that changed the member and deleted once delivered.
+ *
+ * <p>The IDENTITY key is assigned at insert time, at the end of that transaction. A member's
+ * later events are written while its row is locked, so they always get higher IDs, and
+ * relaying in ID order keeps each member's events in order.
+ */
+@Entity
+@Table(name = "member_outbox")
+@Data
+@NoArgsConstructor
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long memberId;
+
+    @Column(nullable = false, length = 20)
+    private String eventType;
+
+    // MemberEvent as JSON
+    @Column(nullable = false, length = 4000)
+    private String payload;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,42 @@
+package com.vivek.clubRegistration.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * Tracks one asynchronously submitted registration from 202 Accepted to its final outcome.
+ */
+@Data
+public class RegistrationTicket {
+
+    public enum Status { QUEUED, REGISTERED, REJECTED, FAILED }
+
+    private final String trackingId;
+    private final LocalDateTime submittedAt = LocalDateTime.now();
+    private volatile Status status = Status.QUEUED;
+    private volatile Long memberId;
+    private volatile String rule;
+    private volatile String message;
+    private volatile LocalDateTime completedAt;
+
+    @JsonIgnore
+    private volatile Member member;   // released once the outcome is known
+    @JsonIgnore
+    private final long enqueuedNanos = System.nanoTime();
+
+    public RegistrationTicket(String trackingId, Member member) {
+        this.trackingId = trackingId;
+        this.member = member;
+    }
+
+    public void complete(Status status, Long memberId, String rule, String message) {
+        this.memberId = memberId;
+        this.rule = rule;
+        this.message = message;
+        this.completedAt = LocalDateTime.now();
+        this.member = null;
+        this.status = status;
+    }
+}
@@ -0,0 +1,16 @@
+package com.vivek.clubRegistration.model;
+
+import lombok.Value;
+
+/**
+ * A member's place on the waitlist. {@code position} is 1-based and null when the member is
+ * not waiting — e.g. already promoted to PENDING, which {@code status} then shows.
+ */
+@Value
+public class WaitlistPosition {
+
+    Long memberId;
+    MemberStatus status;
+    Integer position;
+    int waitlistSize;
+}
@@ -0,0 +1,43 @@
+package com.vivek.clubRegistration.repository;
+
+import com.vivek.clubRegistration.model.ArchivedMember;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+@Repository
+public interface ArchivedMemberRepository extends JpaRepository<ArchivedMember, Long> {
+
+    // ── Duplicate Check (idx_members_archive_email) ─────────
+    boolean existsByEmail(String email);
+
+    @Query("SELECT a.email FROM ArchivedMember a WHERE a.email IN :emails")
+    List<String> findExistingEmails(Collection<String> emails);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "5000"))
+    @Query("SELECT a.email FROM ArchivedMember a")
+    Stream<String> streamAllEmails();
+
+    // Analytics backfill: same shape as MemberRepository.streamRollupFacts()
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "5000"))
+    @Query("SELECT a.membershipType, a.status, a.dateOfBirth, a.registeredAt, a.approvedAt FROM ArchivedMember a")
+    Stream<Object[]> streamRollupFacts();
+
+    // ── Archival: copy rows server-side in one statement ────
+    @Modifying
+    @Query("INSERT INTO ArchivedMember (id, fullName, email, phone, dateOfBirth, membershipType, address, " +
+            "status, registeredAt, approvedAt, adminNote, archivedAt) " +
+            "SELECT m.id, m.fullName, m.email, m.phone, m.dateOfBirth, m.membershipType, m.address, " +
+            "m.status, m.registeredAt, m.approvedAt, m.adminNote, :archivedAt " +
+            "FROM Member m WHERE m.id IN :ids")
+    int copyFromMembers(Collection<Long> ids, LocalDateTime archivedAt);
+}
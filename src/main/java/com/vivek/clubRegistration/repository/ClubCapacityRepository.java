@@ -0,0 +1,38 @@
+package com.vivek.clubRegistration.repository;
+
+import com.vivek.clubRegistration.model.ClubCapacity;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface ClubCapacityRepository extends JpaRepository<ClubCapacity, String> {
+
+    // ── Atomic slot accounting (returns rows updated: 1 = ok, 0 = refused) ──
+    @Modifying
+    @Query("UPDATE ClubCapacity c SET c.used = c.used + 1 WHERE c.name = :name AND c.used < :max")
+    int tryReserve(String name, long max);
+
+    @Modifying
+    @Query("UPDATE ClubCapacity c SET c.used = c.used - 1 WHERE c.name = :name AND c.used > 0")
+    int release(String name);
+
+    @Modifying
+    @Query("UPDATE ClubCapacity c SET c.used = CASE WHEN c.used > :count THEN c.used - :count ELSE 0 END " +
+            "WHERE c.name = :name")
+    int releaseMany(String name, long count);
+
+    // Read back after one of the updates above, while the transaction still holds the row
+    @Query("SELECT c.used FROM ClubCapacity c WHERE c.name = :name")
+    long findUsed(String name);
+
+    // ── Reconciliation ──────────────────────────────────────
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM ClubCapacity c WHERE c.name = :name")
+    Optional<ClubCapacity> findByNameForUpdate(String name);
+}
@@ -0,0 +1,26 @@
+package com.vivek.clubRegistration.repository;
+
+import com.vivek.clubRegistration.model.DailyRollup;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface DailyRollupRepository extends JpaRepository<DailyRollup, Long> {
+
+    // [day, eventType, events, leadTimeSeconds] per day and event type (idx_daily_rollup_day)
+    @Query("SELECT r.day, r.eventType, SUM(r.events), SUM(r.leadTimeSeconds) FROM DailyRollup r " +
+            "WHERE r.day BETWEEN :from AND :to AND (:type IS NULL OR r.membershipType = :type) " +
+            "GROUP BY r.day, r.eventType ORDER BY r.day")
+    List<Object[]> sumByDay(LocalDate from, LocalDate to, String type);
+
+    // Compaction; ordered so two compactors lock rows in the same order
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM DailyRollup r WHERE r.day >= :since ORDER BY r.id")
+    List<DailyRollup> findFromDayForUpdate(LocalDate since);
+}
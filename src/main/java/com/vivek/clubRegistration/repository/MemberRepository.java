@@ -2,32 +2,127 @@ package com.vivek.clubRegistration.repository;
 
 import com.vivek.clubRegistration.model.Member;
 import com.vivek.clubRegistration.model.MemberStatus;
+import com.vivek.clubRegistration.model.MemberSummary;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface MemberRepository extends JpaRepository<Member, Long> {
+public interface MemberRepository extends JpaRepository<Member, Long>, MemberSearchRepository {
 
     // ── Duplicate Check ─────────────────────────────────────
     boolean existsByEmail(String email);
 
     Optional<Member> findByEmail(String email);
 
-    // ── Status Queries ──────────────────────────────────────
-    List<Member> findByStatusOrderByRegisteredAtDesc(MemberStatus status);
+    @Query("SELECT m.email FROM Member m WHERE m.email IN :emails")
+    List<String> findExistingEmails(Collection<String> emails);
+
+    // ── Row lock for admin status changes ───────────────────
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT m FROM Member m WHERE m.id = :id")
+    Optional<Member> findByIdForUpdate(Long id);
 
-    List<Member> findAllByOrderByRegisteredAtDesc();
+    // Oldest applications first, so batch approvals fill remaining slots deterministically
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT m FROM Member m WHERE m.id IN :ids ORDER BY m.registeredAt, m.id")
+    List<Member> findAllByIdInForUpdate(Collection<Long> ids);
 
+    // Archival candidates, oldest first (idx_member_status_registered_at_id)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT m FROM Member m WHERE m.status = :status AND m.registeredAt < :cutoff " +
+            "ORDER BY m.registeredAt, m.id")
+    List<Member> findArchivableForUpdate(MemberStatus status, LocalDateTime cutoff, Limit limit);
+
+    // ── Status Queries ──────────────────────────────────────
     long countByStatus(MemberStatus status);
 
+    // ── Summary Listings (projection, no entity hydration) ──
+    String SUMMARY = "SELECT new com.vivek.clubRegistration.model.MemberSummary(" +
+            "m.id, m.fullName, m.email, m.phone, m.membershipType, m.status, m.registeredAt, m.dateOfBirth) " +
+            "FROM Member m ";
+
+    // Not query-cached: the waitlist reload must see other instances' changes
+    @Query(SUMMARY + "WHERE m.status = :status ORDER BY m.registeredAt DESC, m.id DESC")
+    List<MemberSummary> findSummariesByStatus(MemberStatus status);
+
+    // ── Keyset Pagination (registeredAt DESC, id DESC) ──────
+    // "registeredAt <= :registeredAt" is implied by the rest of the predicate; it is spelled
+    // out so the planner can seek into the registered_at index instead of scanning for the OR.
+    // Pages are query-cached; Hibernate drops them whenever the members table is written.
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = Member.LIST_CACHE_REGION)
+    })
+    @Query(SUMMARY + "ORDER BY m.registeredAt DESC, m.id DESC")
+    List<MemberSummary> findSummaryPage(Limit limit);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = Member.LIST_CACHE_REGION)
+    })
+    @Query(SUMMARY +
+            "WHERE m.registeredAt <= :registeredAt " +
+            "AND (m.registeredAt < :registeredAt OR m.id < :id) " +
+            "ORDER BY m.registeredAt DESC, m.id DESC")
+    List<MemberSummary> findSummaryPageAfter(LocalDateTime registeredAt, Long id, Limit limit);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = Member.LIST_CACHE_REGION)
+    })
+    @Query(SUMMARY + "WHERE m.status = :status ORDER BY m.registeredAt DESC, m.id DESC")
+    List<MemberSummary> findSummaryPageByStatus(MemberStatus status, Limit limit);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = Member.LIST_CACHE_REGION)
+    })
+    @Query(SUMMARY + "WHERE m.status = :status " +
+            "AND m.registeredAt <= :registeredAt " +
+            "AND (m.registeredAt < :registeredAt OR m.id < :id) " +
+            "ORDER BY m.registeredAt DESC, m.id DESC")
+    List<MemberSummary> findSummaryPageByStatusAfter(MemberStatus status, LocalDateTime registeredAt, Long id, Limit limit);
+
+    // ── Streaming Export ────────────────────────────────────
+    // Must be consumed inside a transaction; the driver pulls rows in fetch-size chunks.
+    // Bypasses the second-level cache so a full export doesn't evict the hot members.
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE")
+    })
+    @Query("SELECT m FROM Member m ORDER BY m.id")
+    Stream<Member> streamAllOrderById();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "5000"))
+    @Query("SELECT m.email FROM Member m")
+    Stream<String> streamAllEmails();
+
+    // Analytics backfill: [membershipType, status, dateOfBirth, registeredAt, approvedAt]
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "5000"))
+    @Query("SELECT m.membershipType, m.status, m.dateOfBirth, m.registeredAt, m.approvedAt FROM Member m")
+    Stream<Object[]> streamRollupFacts();
+
     // ── Membership Type ─────────────────────────────────────
     List<Member> findByMembershipType(String membershipType);
 
     // ── Stats for dashboard ─────────────────────────────────
+    @Query("SELECT m.status, COUNT(m) FROM Member m GROUP BY m.status")
+    List<Object[]> countGroupByStatus();
+
     @Query("SELECT m.membershipType, COUNT(m) FROM Member m WHERE m.status = 'APPROVED' GROUP BY m.membershipType")
     List<Object[]> countApprovedByType();
 
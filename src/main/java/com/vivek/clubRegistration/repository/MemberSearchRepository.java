@@ -0,0 +1,20 @@
+package com.vivek.clubRegistration.repository;
+
+import com.vivek.clubRegistration.model.MemberCursor;
+import com.vivek.clubRegistration.model.MemberSearchCriteria;
+import com.vivek.clubRegistration.model.MemberSummary;
+
+import java.util.List;
+
+/**
+ * Dynamic member search — the predicate set depends on which filters are given, so it is
+ * built with the Criteria API rather than a fixed set of derived queries.
+ */
+public interface MemberSearchRepository {
+
+    /**
+     * Returns up to {@code limit} summaries matching {@code criteria}, ordered by
+     * (registeredAt DESC, id DESC) and starting after {@code after} when given.
+     */
+    List<MemberSummary> search(MemberSearchCriteria criteria, MemberCursor after, int limit);
+}
@@ -0,0 +1,85 @@
+package com.vivek.clubRegistration.repository;
+
+import com.vivek.clubRegistration.model.Member;
+import com.vivek.clubRegistration.model.MemberCursor;
+import com.vivek.clubRegistration.model.MemberSearchCriteria;
+import com.vivek.clubRegistration.model.MemberSummary;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+class MemberSearchRepositoryImpl implements MemberSearchRepository {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<MemberSummary> search(MemberSearchCriteria criteria, MemberCursor after, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<MemberSummary> cq = cb.createQuery(MemberSummary.class);
+        Root<Member> m = cq.from(Member.class);
+        Path<LocalDateTime> registeredAt = m.get("registeredAt");
+        Path<Long> id = m.get("id");
+
+        List<Predicate> where = new ArrayList<>();
+        // Equality filters first — they lead the (status, registered_at, id) and (membership_type, status) indexes
+        if (criteria.getStatus() != null) {
+            where.add(cb.equal(m.get("status"), criteria.getStatus()));
+        }
+        if (criteria.getMembershipType() != null) {
+            where.add(cb.equal(m.get("membershipType"), criteria.getMembershipType()));
+        }
+        if (criteria.getRegisteredFrom() != null) {
+            where.add(cb.greaterThanOrEqualTo(registeredAt, criteria.getRegisteredFrom().atStartOfDay()));
+        }
+        if (criteria.getRegisteredTo() != null) {
+            where.add(cb.lessThan(registeredAt, criteria.getRegisteredTo().plusDays(1).atStartOfDay()));
+        }
+        if (criteria.getQuery() != null) {
+            String escaped = escapeLike(criteria.getQuery());
+            String pattern = criteria.getMatch() == MemberSearchCriteria.Match.CONTAINS
+                    ? "%" + escaped + "%"
+                    : escaped + "%";
+            // Emails are stored lower-cased; names are matched through lower(full_name)
+            where.add(cb.or(
+                    cb.like(cb.lower(m.get("fullName")), pattern, LIKE_ESCAPE),
+                    cb.like(m.get("email"), pattern, LIKE_ESCAPE)));
+        }
+        if (after != null) {
+            // The <= bound is implied by the OR but gives the planner a range to seek on
+            where.add(cb.lessThanOrEqualTo(registeredAt, after.getRegisteredAt()));
+            where.add(cb.or(
+                    cb.lessThan(registeredAt, after.getRegisteredAt()),
+                    cb.lessThan(id, after.getId())));
+        }
+
+        cq.select(cb.construct(MemberSummary.class,
+                        id, m.get("fullName"), m.get("email"), m.get("phone"), m.get("membershipType"),
+                        m.get("status"), registeredAt, m.get("dateOfBirth")))
+                .where(where.toArray(Predicate[]::new))
+                .orderBy(cb.desc(registeredAt), cb.desc(id));
+
+        return entityManager.createQuery(cq)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    private static String escapeLike(String value) {
+        StringBuilder sb = new StringBuilder(value.length());
+        for (char c : value.toCharArray()) {
+            if (c == '%' || c == '_' || c == LIKE_ESCAPE) sb.append(LIKE_ESCAPE);
+            sb.append(c);
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,23 @@
+package com.vivek.clubRegistration.repository;
+
+import com.vivek.clubRegistration.model.MixRollup;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface MixRollupRepository extends JpaRepository<MixRollup, Long> {
+
+    // [membershipType, status, ageBucket, members]
+    @Query("SELECT m.membershipType, m.status, m.ageBucket, SUM(m.members) FROM MixRollup m " +
+            "GROUP BY m.membershipType, m.status, m.ageBucket")
+    List<Object[]> sumByTypeStatusBucket();
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT m FROM MixRollup m ORDER BY m.id")
+    List<MixRollup> findAllForUpdate();
+}
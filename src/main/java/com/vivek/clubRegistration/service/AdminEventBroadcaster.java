@@ -0,0 +1,171 @@
+package com.vivek.clubRegistration.service;
+
+import com.vivek.clubRegistration.event.MemberEvent;
+import com.vivek.clubRegistration.exception.BackPressureException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Fans committed member changes out to live admin dashboards over Server-Sent Events.
+ *
+ * <p>Each event is serialized once and offered to every subscriber's bounded buffer, so
+ * publishing never blocks on a client. Every subscriber has its own virtual thread that
+ * writes its buffer to the connection, and a stalled client parks only that thread. A
+ * subscriber whose buffer overflows loses the backlog and is sent a {@code resync} event
+ * instead, telling the page to reload once rather than replay a stale stream.
+ */
+@Slf4j
+@Component
+public class AdminEventBroadcaster {
+
+    private static final Set<DataWithMediaType> RESYNC = SseEmitter.event().name("resync").data("{}").build();
+
+    private final StatsService statsService;
+    private final JsonMapper jsonMapper;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final int maxSubscribers;
+    private final int bufferSize;
+    private final Duration timeout;
+    private final Duration heartbeat;
+    private final Counter overflows;
+
+    public AdminEventBroadcaster(StatsService statsService,
+                                 JsonMapper jsonMapper,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${club.admin.events.max-subscribers:200}") int maxSubscribers,
+                                 @Value("${club.admin.events.buffer-size:256}") int bufferSize,
+                                 @Value("${club.admin.events.timeout:PT30M}") Duration timeout,
+                                 @Value("${club.admin.events.heartbeat:PT20S}") Duration heartbeat) {
+        this.statsService = statsService;
+        this.jsonMapper = jsonMapper;
+        this.maxSubscribers = maxSubscribers;
+        this.bufferSize = bufferSize;
+        this.timeout = timeout;
+        this.heartbeat = heartbeat;
+
+        Gauge.builder("club.admin.events.subscribers", subscribers, Set::size)
+                .description("Connected live admin dashboards")
+                .register(meterRegistry);
+        this.overflows = Counter.builder("club.admin.events.overflows")
+                .description("Dashboards that fell behind and were told to resync")
+                .register(meterRegistry);
+    }
+
+    public SseEmitter subscribe() {
+        if (subscribers.size() >= maxSubscribers) {
+            throw new BackPressureException("Too many live dashboard connections. Please retry shortly.", 30);
+        }
+        Subscriber subscriber = new Subscriber(new SseEmitter(timeout.toMillis()), new ArrayBlockingQueue<>(bufferSize));
+        subscriber.emitter.onCompletion(subscriber::close);
+        subscriber.emitter.onTimeout(subscriber::close);
+        subscriber.emitter.onError(e -> subscriber.close());
+        subscribers.add(subscriber);
+        subscriber.writer = Thread.ofVirtual().name("admin-events").start(subscriber::run);
+        return subscriber.emitter;
+    }
+
+    // Ordered after StatsService so the stats snapshot already includes this change
+    @Order(1)
+    @TransactionalEventListener
+    public void onMemberEvent(MemberEvent event) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("type", event.getType());
+        payload.put("memberId", event.getMemberId());
+        payload.put("previousStatus", event.getPreviousStatus());
+        payload.put("newStatus", event.getNewStatus());
+        payload.put("member", event.getMember());
+        payload.put("stats", statsService.getStats());
+        Set<DataWithMediaType> message = SseEmitter.event()
+                .name("member")
+                .data(jsonMapper.writeValueAsString(payload), MediaType.APPLICATION_JSON)
+                .build();
+        for (Subscriber subscriber : subscribers) {
+            if (!subscriber.buffer.offer(message) && subscriber.overflowed.compareAndSet(false, true)) {
+                overflows.increment();
+            }
+        }
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        subscribers.forEach(s -> s.emitter.complete());
+    }
+
+    private final class Subscriber {
+
+        final SseEmitter emitter;
+        final BlockingQueue<Set<DataWithMediaType>> buffer;
+        final AtomicBoolean overflowed = new AtomicBoolean();
+        volatile boolean closed;
+        volatile Thread writer;
+
+        Subscriber(SseEmitter emitter, BlockingQueue<Set<DataWithMediaType>> buffer) {
+            this.emitter = emitter;
+            this.buffer = buffer;
+        }
+
+        void run() {
+            try {
+                emitter.send(SseEmitter.event().comment("connected"));
+                while (!closed) {
+                    Set<DataWithMediaType> next = buffer.poll(heartbeat.toMillis(), TimeUnit.MILLISECONDS);
+                    if (overflowed.getAndSet(false)) {
+                        buffer.clear();
+                        emitter.send(RESYNC);
+                    } else if (next != null) {
+                        emitter.send(next);
+                    } else {
+                        // Keeps proxies from idling the connection out and detects dead clients
+                        emitter.send(SseEmitter.event().comment("heartbeat"));
+                    }
+                }
+            } catch (IOException | IllegalStateException e) {
+                // Client went away; the container reports it and completes the emitter
+                log.debug("Admin event stream closed: {}", e.getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                close();
+            }
+        }
+
+        void close() {
+            closed = true;
+            subscribers.remove(this);
+            buffer.clear();
+            Thread w = writer;
+            if (w != null && w != Thread.currentThread()) {
+                w.interrupt();
+            }
+        }
+    }
+}
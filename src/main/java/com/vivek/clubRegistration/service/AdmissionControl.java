@@ -0,0 +1,125 @@
+package com.vivek.clubRegistration.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.vivek.clubRegistration.exception.RateLimitException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Admission control for the registration endpoints, applied before any request reaches
+ * {@link MemberService}:
+ * <ul>
+ *   <li>a token bucket per client IP,</li>
+ *   <li>a token bucket per email domain, which catches bot waves spread over many IPs,</li>
+ *   <li>a global limit on registrations in flight, so a flood can never take every
+ *       pooled connection away from the admin panel.</li>
+ * </ul>
+ * Buckets live in size-bounded Caffeine caches that drop keys idle for longer than a
+ * bucket takes to refill, so memory stays flat no matter how many clients show up.
+ * Every check is non-blocking; a refused request fails fast with {@link RateLimitException}.
+ */
+@Component
+public class AdmissionControl {
+
+    private final boolean enabled;
+    private final int ipRate, ipBurst, domainRate, domainBurst;
+    private final Cache<String, TokenBucket> ipBuckets;
+    private final Cache<String, TokenBucket> domainBuckets;
+    private final Semaphore inFlight;
+    private final Counter ipRejections, domainRejections, concurrencyRejections;
+
+    public AdmissionControl(MeterRegistry meterRegistry,
+                            @Value("${club.admission.enabled:true}") boolean enabled,
+                            @Value("${club.admission.ip.rate-per-minute:30}") int ipRate,
+                            @Value("${club.admission.ip.burst:10}") int ipBurst,
+                            @Value("${club.admission.domain.rate-per-minute:600}") int domainRate,
+                            @Value("${club.admission.domain.burst:100}") int domainBurst,
+                            @Value("${club.admission.max-concurrent:8}") int maxConcurrent,
+                            @Value("${club.admission.max-tracked-keys:100000}") long maxTrackedKeys,
+                            @Value("${club.admission.idle-expiry:PT10M}") Duration idleExpiry) {
+        this.enabled = enabled;
+        this.ipRate = ipRate;
+        this.ipBurst = ipBurst;
+        this.domainRate = domainRate;
+        this.domainBurst = domainBurst;
+        this.ipBuckets = Caffeine.newBuilder()
+                .maximumSize(maxTrackedKeys)
+                .expireAfterAccess(idleExpiry)
+                .build();
+        this.domainBuckets = Caffeine.newBuilder()
+                .maximumSize(maxTrackedKeys)
+                .expireAfterAccess(idleExpiry)
+                .build();
+        this.inFlight = new Semaphore(maxConcurrent);
+
+        Gauge.builder("club.admission.in.flight", inFlight, s -> maxConcurrent - s.availablePermits())
+                .description("Registrations currently admitted")
+                .register(meterRegistry);
+        Gauge.builder("club.admission.tracked.keys", this, a -> a.ipBuckets.estimatedSize() + a.domainBuckets.estimatedSize())
+                .description("IP and domain buckets held in memory")
+                .register(meterRegistry);
+        this.ipRejections = rejections(meterRegistry, "ip");
+        this.domainRejections = rejections(meterRegistry, "domain");
+        this.concurrencyRejections = rejections(meterRegistry, "concurrency");
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void admitClient(String ip) {
+        long wait = ipBuckets.get(ip, k -> TokenBucket.perMinute(ipRate, ipBurst, System.nanoTime()))
+                .tryAcquire(System.nanoTime());
+        if (wait > 0) {
+            ipRejections.increment();
+            throw new RateLimitException("Too many registration attempts from your network. Please slow down.",
+                    retryAfter(wait));
+        }
+    }
+
+    public void admitEmail(String email) {
+        if (email == null) {
+            return;
+        }
+        String domain = email.substring(email.lastIndexOf('@') + 1).trim().toLowerCase(Locale.ROOT);
+        long wait = domainBuckets.get(domain, k -> TokenBucket.perMinute(domainRate, domainBurst, System.nanoTime()))
+                .tryAcquire(System.nanoTime());
+        if (wait > 0) {
+            domainRejections.increment();
+            throw new RateLimitException("Too many registrations for " + domain + " right now. Please retry shortly.",
+                    retryAfter(wait));
+        }
+    }
+
+    /** Takes an in-flight slot; pair every successful call with {@link #exit()}. */
+    public void enter() {
+        if (!inFlight.tryAcquire()) {
+            concurrencyRejections.increment();
+            throw new RateLimitException("Registration is busy. Please retry in a moment.", 1);
+        }
+    }
+
+    public void exit() {
+        inFlight.release();
+    }
+
+    private static long retryAfter(long waitNanos) {
+        return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+    }
+
+    private static Counter rejections(MeterRegistry registry, String reason) {
+        return Counter.builder("club.admission.rejected")
+                .tag("reason", reason)
+                .description("Registrations refused by admission control")
+                .register(registry);
+    }
+}
@@ -0,0 +1,102 @@
+package com.vivek.clubRegistration.service;
+
+import com.vivek.clubRegistration.event.MemberEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Date;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps the analytics rollups in step with every {@link MemberEvent}, inside the transaction
+ * that published it. Changes are summed per key for the transaction and appended as delta rows
+ * just before commit, so concurrent writers never contend on a shared counter row and a
+ * rolled-back change leaves no trace. {@link AnalyticsService} compacts the deltas.
+ */
+@Component
+public class AnalyticsRollupWriter {
+
+    private static final String INSERT_DAILY = "INSERT INTO member_daily_rollup " +
+            "(rollup_day, membership_type, event_type, events, lead_time_seconds) VALUES (?, ?, ?, ?, ?)";
+    private static final String INSERT_MIX = "INSERT INTO member_mix_rollup " +
+            "(membership_type, status, age_bucket, members) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final int bucketYears;
+
+    public AnalyticsRollupWriter(JdbcTemplate jdbcTemplate,
+                                 @Value("${club.analytics.enabled:true}") boolean enabled,
+                                 @Value("${club.analytics.age-bucket-years:10}") int bucketYears) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.bucketYears = bucketYears;
+    }
+
+    RollupDeltas newDeltas() {
+        return new RollupDeltas(bucketYears);
+    }
+
+    // A plain listener runs inside the publisher's transaction, unlike @TransactionalEventListener
+    @EventListener
+    public void onMemberEvent(MemberEvent event) {
+        if (!enabled) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            RollupDeltas deltas = newDeltas();
+            deltas.add(event);
+            insert(deltas);
+            return;
+        }
+        RollupDeltas buffer = (RollupDeltas) TransactionSynchronizationManager.getResource(this);
+        if (buffer == null) {
+            RollupDeltas pending = newDeltas();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    insert(pending);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(AnalyticsRollupWriter.this);
+                }
+            });
+            buffer = pending;
+        }
+        buffer.add(event);
+    }
+
+    void insert(RollupDeltas deltas) {
+        List<Map.Entry<RollupDeltas.DayKey, long[]>> daily = new ArrayList<>(deltas.daily.entrySet());
+        if (!daily.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_DAILY, daily, daily.size(), (ps, row) -> {
+                ps.setDate(1, Date.valueOf(row.getKey().getDay()));
+                ps.setString(2, row.getKey().getMembershipType());
+                ps.setString(3, row.getKey().getEventType());
+                ps.setLong(4, row.getValue()[0]);
+                ps.setLong(5, row.getValue()[1]);
+            });
+        }
+        // A member moved out and back within one transaction nets to zero
+        List<Map.Entry<RollupDeltas.MixKey, Long>> mix = deltas.mix.entrySet().stream()
+                .filter(row -> row.getValue() != 0)
+                .toList();
+        if (!mix.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_MIX, mix, mix.size(), (ps, row) -> {
+                ps.setString(1, row.getKey().getMembershipType());
+                ps.setString(2, row.getKey().getStatus().name());
+                ps.setInt(3, row.getKey().getAgeBucket());
+                ps.setLong(4, row.getValue());
+            });
+        }
+    }
+}
@@ -0,0 +1,282 @@
+package com.vivek.clubRegistration.service;
+
+import com.vivek.clubRegistration.exception.InvalidRequestException;
+import com.vivek.clubRegistration.exception.RegistrationException;
+import com.vivek.clubRegistration.model.AnalyticsReport;
+import com.vivek.clubRegistration.model.DailyRollup;
+import com.vivek.clubRegistration.model.MemberStatus;
+import com.vivek.clubRegistration.model.MixRollup;
+import com.vivek.clubRegistration.repository.ArchivedMemberRepository;
+import com.vivek.clubRegistration.repository.DailyRollupRepository;
+import com.vivek.clubRegistration.repository.MemberRepository;
+import com.vivek.clubRegistration.repository.MixRollupRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Serves {@code /api/analytics} from the rollup tables that {@link AnalyticsRollupWriter}
+ * maintains, so a report costs a few grouped reads of small tables however many members
+ * there are.
+ *
+ * <p>Writers only ever append deltas. The compactor folds each key back into one row: daily
+ * rows from yesterday on (older days no longer change) and all mix rows, dropping mix keys
+ * that net to zero. Rows are locked first, so a compaction on another instance waits.
+ *
+ * <p>{@link #backfill()} rebuilds the rollups from the member tables, for data that predates
+ * them. It reads {@code members} and {@code members_archive} in one REPEATABLE READ snapshot
+ * and replaces exactly the rollup rows that snapshot saw; deltas committed after it started
+ * are kept, so nothing is counted twice or lost. The member tables only record registration
+ * and approval, so daily rows for other events (rejections, deletions) are left as they are;
+ * rejections and deletions from before the rollups existed stay missing.
+ */
+@Slf4j
+@Service
+public class AnalyticsService {
+
+    private final MemberRepository memberRepository;
+    private final ArchivedMemberRepository archiveRepository;
+    private final DailyRollupRepository dailyRepository;
+    private final MixRollupRepository mixRepository;
+    private final AnalyticsRollupWriter writer;
+    private final TransactionTemplate readTx;
+    private final TransactionTemplate compactTx;
+    private final TransactionTemplate snapshotTx;
+    private final AtomicBoolean busy = new AtomicBoolean();
+
+    private final boolean enabled;
+    private final int bucketYears;
+    private final int maxRangeDays;
+
+    public AnalyticsService(MemberRepository memberRepository,
+                            ArchivedMemberRepository archiveRepository,
+                            DailyRollupRepository dailyRepository,
+                            MixRollupRepository mixRepository,
+                            AnalyticsRollupWriter writer,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${club.analytics.enabled:true}") boolean enabled,
+                            @Value("${club.analytics.age-bucket-years:10}") int bucketYears,
+                            @Value("${club.analytics.max-range-days:366}") int maxRangeDays) {
+        this.memberRepository = memberRepository;
+        this.archiveRepository = archiveRepository;
+        this.dailyRepository = dailyRepository;
+        this.mixRepository = mixRepository;
+        this.writer = writer;
+        this.readTx = new TransactionTemplate(transactionManager);
+        this.readTx.setReadOnly(true);
+        this.compactTx = new TransactionTemplate(transactionManager);
+        this.snapshotTx = new TransactionTemplate(transactionManager);
+        this.snapshotTx.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.enabled = enabled;
+        this.bucketYears = bucketYears;
+        this.maxRangeDays = maxRangeDays;
+    }
+
+    // ════════════════════════════════════════════════════════
+    //  REPORT
+    // ════════════════════════════════════════════════════════
+    public AnalyticsReport report(LocalDate from, LocalDate to, String membershipType) {
+        if (from.isAfter(to)) {
+            throw new InvalidRequestException("'from' must not be after 'to'");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= maxRangeDays) {
+            throw new InvalidRequestException("Range must not exceed " + maxRangeDays + " days");
+        }
+        String type = membershipType == null || membershipType.isBlank() ? null : membershipType.trim().toUpperCase();
+        return readTx.execute(status -> buildReport(from, to, type));
+    }
+
+    private AnalyticsReport buildReport(LocalDate from, LocalDate to, String type) {
+        Map<LocalDate, Map<String, Long>> events = new LinkedHashMap<>();
+        Map<LocalDate, Long> leadTimes = new LinkedHashMap<>();
+        Map<String, Long> totals = new TreeMap<>();
+        long totalLeadTime = 0;
+        for (Object[] row : dailyRepository.sumByDay(from, to, type)) {
+            LocalDate day = (LocalDate) row[0];
+            String eventType = (String) row[1];
+            long count = ((Number) row[2]).longValue();
+            long leadTime = ((Number) row[3]).longValue();
+            if (count == 0) {
+                continue;
+            }
+            events.computeIfAbsent(day, d -> new TreeMap<>()).put(eventType, count);
+            totals.merge(eventType, count, Long::sum);
+            leadTimes.merge(day, leadTime, Long::sum);
+            totalLeadTime += leadTime;
+        }
+
+        List<AnalyticsReport.Day> days = new ArrayList<>(events.size());
+        events.forEach((day, counts) -> days.add(new AnalyticsReport.Day(day, counts,
+                averageHours(leadTimes.get(day), counts.get("APPROVED")))));
+
+        Map<String, Map<MemberStatus, Long>> mix = new TreeMap<>();
+        Map<Integer, Map<MemberStatus, Long>> buckets = new TreeMap<>();
+        for (Object[] row : mixRepository.sumByTypeStatusBucket()) {
+            String tier = (String) row[0];
+            MemberStatus memberStatus = (MemberStatus) row[1];
+            int bucket = ((Number) row[2]).intValue();
+            long members = ((Number) row[3]).longValue();
+            if (members == 0 || (type != null && !type.equals(tier))) {
+                continue;
+            }
+            mix.computeIfAbsent(tier, t -> new EnumMap<>(MemberStatus.class)).merge(memberStatus, members, Long::sum);
+            buckets.computeIfAbsent(bucket, b -> new EnumMap<>(MemberStatus.class)).merge(memberStatus, members, Long::sum);
+        }
+        Map<String, Map<MemberStatus, Long>> ageHistogram = new LinkedHashMap<>();
+        buckets.forEach((bucket, counts) -> ageHistogram.put(bucket + "-" + (bucket + bucketYears - 1), counts));
+
+        return new AnalyticsReport(from, to, type, days, totals,
+                averageHours(totalLeadTime, totals.get("APPROVED")), mix, ageHistogram);
+    }
+
+    private static Double averageHours(Long leadTimeSeconds, Long approvals) {
+        if (approvals == null || approvals == 0 || leadTimeSeconds == null) {
+            return null;
+        }
+        return Math.round(leadTimeSeconds / 36.0 / approvals) / 100.0;
+    }
+
+    // ════════════════════════════════════════════════════════
+    //  COMPACTION
+    // ════════════════════════════════════════════════════════
+    @Scheduled(fixedDelayString = "${club.analytics.compact-interval:PT5M}",
+               initialDelayString = "${club.analytics.compact-interval:PT5M}")
+    void scheduledCompact() {
+        if (!enabled || !busy.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            compact();
+        } catch (RuntimeException e) {
+            log.warn("Analytics compaction failed; retrying on the next run: {}", e.getMessage());
+        } finally {
+            busy.set(false);
+        }
+    }
+
+    /** Folds delta rows into one row per key and returns how many rows were removed. */
+    public int compact() {
+        Integer removed = compactTx.execute(status -> compactDaily() + compactMix());
+        if (removed != null && removed > 0) {
+            log.debug("Analytics compaction removed {} rollup rows", removed);
+        }
+        return removed == null ? 0 : removed;
+    }
+
+    private int compactDaily() {
+        Map<RollupDeltas.DayKey, List<DailyRollup>> groups = dailyRepository
+                .findFromDayForUpdate(LocalDate.now().minusDays(1)).stream()
+                .collect(Collectors.groupingBy(
+                        r -> new RollupDeltas.DayKey(r.getDay(), r.getMembershipType(), r.getEventType())));
+        int removed = 0;
+        for (Map.Entry<RollupDeltas.DayKey, List<DailyRollup>> group : groups.entrySet()) {
+            List<DailyRollup> rows = group.getValue();
+            if (rows.size() < 2) {
+                continue;
+            }
+            RollupDeltas.DayKey key = group.getKey();
+            dailyRepository.deleteAllInBatch(rows);
+            dailyRepository.save(new DailyRollup(null, key.getDay(), key.getMembershipType(), key.getEventType(),
+                    rows.stream().mapToLong(DailyRollup::getEvents).sum(),
+                    rows.stream().mapToLong(DailyRollup::getLeadTimeSeconds).sum()));
+            removed += rows.size() - 1;
+        }
+        return removed;
+    }
+
+    private int compactMix() {
+        Map<RollupDeltas.MixKey, List<MixRollup>> groups = mixRepository.findAllForUpdate().stream()
+                .collect(Collectors.groupingBy(
+                        r -> new RollupDeltas.MixKey(r.getMembershipType(), r.getStatus(), r.getAgeBucket())));
+        int removed = 0;
+        for (Map.Entry<RollupDeltas.MixKey, List<MixRollup>> group : groups.entrySet()) {
+            List<MixRollup> rows = group.getValue();
+            long members = rows.stream().mapToLong(MixRollup::getMembers).sum();
+            if (rows.size() < 2 && members != 0) {
+                continue;
+            }
+            RollupDeltas.MixKey key = group.getKey();
+            mixRepository.deleteAllInBatch(rows);
+            if (members != 0) {
+                mixRepository.save(new MixRollup(null, key.getMembershipType(), key.getStatus(), key.getAgeBucket(), members));
+                removed--;
+            }
+            removed += rows.size();
+        }
+        return removed;
+    }
+
+    // ════════════════════════════════════════════════════════
+    //  BACKFILL
+    // ════════════════════════════════════════════════════════
+    /**
+     * Rebuilds the rollups from {@code members} and {@code members_archive}; meant to be run
+     * once, after upgrading. Returns the number of member rows read per table.
+     */
+    public Map<String, Long> backfill() {
+        if (!busy.compareAndSet(false, true)) {
+            throw new RegistrationException("Analytics compaction or backfill already running; try again shortly.",
+                    "ANALYTICS_BUSY");
+        }
+        try {
+            LocalDateTime started = LocalDateTime.now();
+            Map<String, Long> read = snapshotTx.execute(status -> rebuild());
+            log.info("Analytics backfill read {} in {} ms", read,
+                    ChronoUnit.MILLIS.between(started, LocalDateTime.now()));
+            return read;
+        } finally {
+            busy.set(false);
+        }
+    }
+
+    private Map<String, Long> rebuild() {
+        // The first read fixes the snapshot: these rows are what the member tables below explain
+        // Daily rows for events the member tables can't explain would be lost for good, so keep them
+        List<DailyRollup> staleDaily = dailyRepository.findAll().stream()
+                .filter(row -> RollupDeltas.EXISTING_EVENTS.contains(row.getEventType()))
+                .toList();
+        List<MixRollup> staleMix = mixRepository.findAll();
+
+        RollupDeltas deltas = writer.newDeltas();
+        long members = stream(memberRepository.streamRollupFacts(), deltas, true);
+        long archived = stream(archiveRepository.streamRollupFacts(), deltas, false);
+
+        dailyRepository.deleteAllInBatch(staleDaily);
+        mixRepository.deleteAllInBatch(staleMix);
+        writer.insert(deltas);
+
+        Map<String, Long> read = new LinkedHashMap<>();
+        read.put("members", members);
+        read.put("archived", archived);
+        return read;
+    }
+
+    private static long stream(Stream<Object[]> rows, RollupDeltas deltas, boolean current) {
+        long[] count = {0};
+        try (rows) {
+            rows.forEach(row -> {
+                deltas.addExisting((String) row[0], (MemberStatus) row[1], (LocalDate) row[2],
+                        (LocalDateTime) row[3], (LocalDateTime) row[4], current);
+                count[0]++;
+            });
+        }
+        return count[0];
+    }
+}
@@ -0,0 +1,180 @@
+package com.vivek.clubRegistration.service;
+
+import com.vivek.clubRegistration.model.ClubCapacity;
+import com.vivek.clubRegistration.model.MemberStatus;
+import com.vivek.clubRegistration.repository.ClubCapacityRepository;
+import com.vivek.clubRegistration.repository.MemberRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Membership slot accounting.
+ *
+ * <p>The source of truth is the {@code club_capacity} row, changed only through conditional
+ * UPDATEs, so two concurrent approvals can never both take the last slot. An in-process
+ * mirror of the used count lets callers reject cheaply once the club is full; it is set after
+ * each commit to the value the transaction left in the row, and re-read from the row (at most
+ * once per refresh interval) while it reports full, so slots released by other instances are
+ * picked up.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CapacityService {
+
+    static final String MEMBERS = "members";
+
+    private final ClubCapacityRepository capacityRepository;
+    private final MemberRepository memberRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    private final AtomicLong usedMirror = new AtomicLong();
+    private final AtomicLong mirrorSequence = new AtomicLong();
+    private long appliedSequence;   // guarded by this
+    private volatile long mirrorRefreshedAt;
+
+    @Value("${club.max.members:100}")
+    private int maxMembers;
+
+    @Value("${club.capacity.mirror-refresh-ms:1000}")
+    private long mirrorRefreshMs;
+
+    @PostConstruct
+    void init() {
+        reconcile();
+    }
+
+    // ════════════════════════════════════════════════════════
+    //  FAST CHECK — no DB access unless the mirror says full
+    // ════════════════════════════════════════════════════════
+    public boolean isFull() {
+        if (usedMirror.get() < maxMembers) {
+            return false;
+        }
+        if (System.currentTimeMillis() - mirrorRefreshedAt >= mirrorRefreshMs) {
+            refreshMirror();
+        }
+        return usedMirror.get() >= maxMembers;
+    }
+
+    public long getUsed() {
+        return usedMirror.get();
+    }
+
+    // ════════════════════════════════════════════════════════
+    //  RESERVE / RELEASE — join the caller's transaction
+    // ════════════════════════════════════════════════════════
+    /**
+     * Takes one slot. Returns false when the club is full. Must run inside the transaction
+     * that changes the member, so a rollback also gives the slot back.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public boolean tryReserveSlot() {
+        if (isFull()) {
+            return false;
+        }
+        if (capacityRepository.tryReserve(MEMBERS, maxMembers) == 0) {
+            refreshMirror();
+            return false;
+        }
+        mirrorAfterCommit(capacityRepository.findUsed(MEMBERS));
+        return true;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void releaseSlot() {
+        if (capacityRepository.release(MEMBERS) == 1) {
+            mirrorAfterCommit(capacityRepository.findUsed(MEMBERS));
+        }
+    }
+
+    /**
+     * Takes as many of {@code requested} slots as are free, under a lock on the counter
+     * row, and returns how many were granted (possibly 0).
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public int reserveUpTo(int requested) {
+        if (requested <= 0 || isFull()) {
+            return 0;
+        }
+        ClubCapacity capacity = capacityRepository.findByNameForUpdate(MEMBERS).orElseThrow();
+        int granted = (int) Math.max(0, Math.min(requested, maxMembers - capacity.getUsed()));
+        if (granted > 0) {
+            capacity.setUsed(capacity.getUsed() + granted);
+            mirrorAfterCommit(capacity.getUsed());
+        }
+        return granted;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void releaseSlots(int count) {
+        if (count > 0 && capacityRepository.releaseMany(MEMBERS, count) == 1) {
+            mirrorAfterCommit(capacityRepository.findUsed(MEMBERS));
+        }
+    }
+
+    // ════════════════════════════════════════════════════════
+    //  RECONCILE — reset the counter from the members table
+    // ════════════════════════════════════════════════════════
+    /**
+     * Recounts approved members under a lock on the counter row. In-flight reservations
+     * hold that lock until they commit, so the count taken afterwards includes them.
+     */
+    public long reconcile() {
+        Long used = new TransactionTemplate(transactionManager).execute(status -> {
+            ClubCapacity capacity = capacityRepository.findByNameForUpdate(MEMBERS)
+                    .orElseGet(() -> capacityRepository.saveAndFlush(new ClubCapacity(MEMBERS, 0)));
+            long approved = memberRepository.countByStatus(MemberStatus.APPROVED);
+            if (capacity.getUsed() != approved) {
+                log.warn("Capacity counter drifted: counter={} approved={}; resetting", capacity.getUsed(), approved);
+                capacity.setUsed(approved);
+            }
+            return approved;
+        });
+        usedMirror.set(used);
+        mirrorRefreshedAt = System.currentTimeMillis();
+        return used;
+    }
+
+    /*
+     * Called while the transaction holds the counter row lock, with the value it leaves in the
+     * row, so sequence order is commit order. afterCommit runs after the lock is released and
+     * callbacks can finish out of order; an older value never overwrites a newer one.
+     */
+    private void mirrorAfterCommit(long used) {
+        long sequence = mirrorSequence.incrementAndGet();
+        afterCommit(() -> setMirror(sequence, used));
+    }
+
+    private synchronized void setMirror(long sequence, long used) {
+        if (sequence > appliedSequence) {
+            appliedSequence = sequence;
+            usedMirror.set(used);
+        }
+    }
+
+    private void refreshMirror() {
+        capacityRepository.findById(MEMBERS).ifPresent(c -> usedMirror.set(c.getUsed()));
+        mirrorRefreshedAt = System.currentTimeMillis();
+    }
+
+    private static void afterCommit(Runnable action) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
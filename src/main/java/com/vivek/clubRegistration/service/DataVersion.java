@@ -0,0 +1,113 @@
+package com.vivek.clubRegistration.service;
+
+import com.vivek.clubRegistration.event.MemberEvent;
+import com.vivek.clubRegistration.model.MemberStatus;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Versions behind the (weak) ETags of the read endpoints, kept in the {@code data_version}
+ * table so every instance hands out the same tag for the same data. Each status has its own
+ * version that only moves when a member enters or leaves that status, so e.g. approving one
+ * member doesn't invalidate the rejected listing. Every member change touches at least one
+ * status, so the global version is the sum of the status versions; there is no global row
+ * for every writer in the cluster to queue on.
+ *
+ * <p>Versions are bumped just before the writing transaction commits, so a version is never
+ * visible before the data it covers. Readers must still take the version <em>before</em>
+ * reading the data, so data read afterwards is never older than its tag. Writers queue only
+ * on the rows of the statuses they touch, between that update and their commit.
+ */
+@Component
+public class DataVersion {
+
+    private static final String BUMP = "UPDATE data_version SET version = version + 1 WHERE scope = ?";
+    private static final String READ = "SELECT version FROM data_version WHERE scope = ?";
+    private static final String READ_GLOBAL = "SELECT COALESCE(SUM(version), 0) FROM data_version";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public DataVersion(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // A plain listener runs inside the publisher's transaction, unlike @TransactionalEventListener
+    @EventListener
+    public void onMemberEvent(MemberEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            Set<MemberStatus> touched = EnumSet.noneOf(MemberStatus.class);
+            collect(event, touched);
+            bump(touched);
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        Set<MemberStatus> buffer = (Set<MemberStatus>) TransactionSynchronizationManager.getResource(this);
+        if (buffer == null) {
+            Set<MemberStatus> pending = EnumSet.noneOf(MemberStatus.class);
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    bump(pending);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(DataVersion.this);
+                }
+            });
+            buffer = pending;
+        }
+        collect(event, buffer);
+    }
+
+    private static void collect(MemberEvent event, Set<MemberStatus> touched) {
+        if (event.getPreviousStatus() != null) {
+            touched.add(event.getPreviousStatus());
+        }
+        if (event.getNewStatus() != null) {
+            touched.add(event.getNewStatus());
+        }
+    }
+
+    // EnumSet iterates in declaration order, so writers lock the rows in the same order and can't deadlock
+    private void bump(Set<MemberStatus> touched) {
+        List<Object[]> rows = touched.stream().map(status -> new Object[] { status.name() }).toList();
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(BUMP, rows);
+        }
+    }
+
+    /** Invalidates every tag, for changes that aren't tied to one member (e.g. a stats resync). */
+    public void bumpAll() {
+        bump(EnumSet.allOf(MemberStatus.class));
+    }
+
+    /**
+     * ETag for a listing filtered by {@code status}, or for everything when null. Weak, since the
+     * same data goes out as JSON or CBOR, gzipped or not; Tomcat also won't compress a response
+     * with a strong ETag.
+     */
+    public String etag(MemberStatus status) {
+        String version = status == null
+                ? Long.toString(jdbcTemplate.queryForObject(READ_GLOBAL, Long.class))
+                : status.name().toLowerCase() + "-" + read(status.name());
+        return "W/\"" + version + "\"";
+    }
+
+    public String etag() {
+        return etag(null);
+    }
+
+    private long read(String scope) {
+        List<Long> version = jdbcTemplate.queryForList(READ, Long.class, scope);
+        return version.isEmpty() ? 0 : version.getFirst();
+    }
+}
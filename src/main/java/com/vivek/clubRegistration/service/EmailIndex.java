@@ -0,0 +1,162 @@
+package com.vivek.clubRegistration.service;
+
+import com.vivek.clubRegistration.repository.ArchivedMemberRepository;
+import com.vivek.clubRegistration.repository.MemberRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * In-memory Bloom filter of every registered (normalised) email, used to skip the
+ * duplicate-email query for addresses that have definitely never been seen. Archived
+ * members still count as registered, so their emails are included.
+ *
+ * <p>A "maybe" answer still goes to the database, and the {@code uk_member_email}
+ * constraint remains the final guard, so for members a stale filter only ever costs an
+ * extra query — never a wrong answer. Nothing guards the archive that way, so callers
+ * only use the filter to skip the members lookup and always look in the archive.
+ *
+ * <p>Until the filter has been warmed every lookup is treated as "maybe". Deleted emails
+ * cannot be removed from a Bloom filter; they are counted and the filter is rebuilt once
+ * they make up too large a share of it.
+ */
+@Slf4j
+@Component
+public class EmailIndex {
+
+    private final MemberRepository memberRepository;
+    private final ArchivedMemberRepository archiveRepository;
+    private final TransactionTemplate readOnlyTx;
+
+    private final long expectedInsertions;
+    private final double fpp;
+    private final double maxStaleRatio;
+
+    private volatile BloomFilter filter;
+    private volatile BloomFilter building;   // receives adds while a rebuild is running
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private final AtomicLong staleEntries = new AtomicLong();
+
+    private final Counter definiteMisses;
+    private final Counter maybeHits;
+    private final Counter falsePositives;
+
+    public EmailIndex(MemberRepository memberRepository,
+                      ArchivedMemberRepository archiveRepository,
+                      PlatformTransactionManager transactionManager,
+                      MeterRegistry meterRegistry,
+                      @Value("${club.email-index.expected-insertions:1000000}") long expectedInsertions,
+                      @Value("${club.email-index.fpp:0.01}") double fpp,
+                      @Value("${club.email-index.max-stale-ratio:0.1}") double maxStaleRatio) {
+        this.memberRepository = memberRepository;
+        this.archiveRepository = archiveRepository;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.expectedInsertions = expectedInsertions;
+        this.fpp = fpp;
+        this.maxStaleRatio = maxStaleRatio;
+
+        definiteMisses = Counter.builder("club.email.index.lookups").tag("result", "definite_miss")
+                .description("Duplicate checks answered without a DB query").register(meterRegistry);
+        maybeHits = Counter.builder("club.email.index.lookups").tag("result", "maybe")
+                .description("Duplicate checks that needed a DB query").register(meterRegistry);
+        falsePositives = Counter.builder("club.email.index.false.positives")
+                .description("'maybe' answers the DB then found to be new emails").register(meterRegistry);
+
+        Gauge.builder("club.email.index.memory", this, i -> i.filter == null ? 0 : i.filter.sizeInBytes())
+                .baseUnit("bytes").description("Bloom filter bit array size").register(meterRegistry);
+        Gauge.builder("club.email.index.entries", this, i -> i.filter == null ? 0 : i.filter.insertions())
+                .description("Emails added to the filter, including deleted ones").register(meterRegistry);
+        Gauge.builder("club.email.index.fpp.expected", this, i -> i.filter == null ? 1 : i.filter.expectedFpp())
+                .description("Theoretical false-positive probability at the current fill").register(meterRegistry);
+        Gauge.builder("club.email.index.fpp.observed", this, EmailIndex::observedFpp)
+                .description("False positives / lookups for emails that were not registered").register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        rebuild();
+    }
+
+    // ════════════════════════════════════════════════════════
+    //  LOOKUP
+    // ════════════════════════════════════════════════════════
+    /** False means the email is definitely not registered; true means "ask the database". */
+    public boolean mightContain(String normalizedEmail) {
+        BloomFilter current = filter;
+        if (current != null && !current.mightContain(normalizedEmail)) {
+            definiteMisses.increment();
+            return false;
+        }
+        maybeHits.increment();
+        return true;
+    }
+
+    /** Feedback from the caller when a "maybe" turned out to be a new email. */
+    public void recordFalsePositive() {
+        falsePositives.increment();
+    }
+
+    // ════════════════════════════════════════════════════════
+    //  MAINTENANCE
+    // ════════════════════════════════════════════════════════
+    public void add(String normalizedEmail) {
+        BloomFilter current = filter;
+        if (current != null) current.put(normalizedEmail);
+        BloomFilter next = building;
+        if (next != null) next.put(normalizedEmail);
+    }
+
+    public void remove(String normalizedEmail) {
+        BloomFilter current = filter;
+        if (current != null && staleEntries.incrementAndGet() > current.insertions() * maxStaleRatio) {
+            Thread.ofVirtual().name("email-index-rebuild").start(this::rebuild);
+        }
+    }
+
+    /** Rebuilds the filter from the members and archive tables. Concurrent calls are coalesced. */
+    public void rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long count = memberRepository.count() + archiveRepository.count();
+            BloomFilter next = new BloomFilter(Math.max(expectedInsertions, count * 2), fpp);
+            building = next;
+            readOnlyTx.executeWithoutResult(status -> {
+                try (Stream<String> emails = memberRepository.streamAllEmails()) {
+                    emails.forEach(next::put);
+                }
+                try (Stream<String> emails = archiveRepository.streamAllEmails()) {
+                    emails.forEach(next::put);
+                }
+            });
+            filter = next;
+            staleEntries.set(0);
+            log.info("Email index built: {} emails, {} KiB, expected fpp {}",
+                    next.insertions(), next.sizeInBytes() / 1024, String.format("%.4f", next.expectedFpp()));
+        } catch (RuntimeException e) {
+            log.error("Email index rebuild failed; duplicate checks fall back to the database", e);
+        } finally {
+            building = null;
+            rebuilding.set(false);
+        }
+    }
+
+    private double observedFpp() {
+        double fp = falsePositives.count();
+        double negatives = fp + definiteMisses.count();
+        return negatives == 0 ? 0 : fp / negatives;
+    }
+}
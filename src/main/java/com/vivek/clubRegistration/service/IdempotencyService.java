@@ -0,0 +1,211 @@
+package com.vivek.clubRegistration.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.vivek.clubRegistration.exception.InvalidRequestException;
+import com.vivek.clubRegistration.exception.RegistrationException;
+import com.vivek.clubRegistration.model.ApiResponse;
+import com.vivek.clubRegistration.model.IdempotencyRecord;
+import com.vivek.clubRegistration.model.Member;
+import com.vivek.clubRegistration.repository.IdempotencyRecordRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * {@code Idempotency-Key} handling for {@code POST /api/register}.
+ *
+ * <p>The first request with a key runs the registration; its response is kept in a
+ * size-bounded cache that evicts entries after the TTL, and retries get that response
+ * replayed instead of a DUPLICATE_EMAIL conflict. Concurrent requests with the same key
+ * attach to the one in-flight execution instead of racing it. Failed executions are not
+ * remembered, so a retry after an error runs again.
+ *
+ * <p>With {@code club.idempotency.persist=true} the response is also written to
+ * {@code idempotency_keys} in the registration's own transaction, so a key survives
+ * restarts and is shared by every instance. The key row is inserted before the registration
+ * runs, so a concurrent first use on another instance waits on it and then replays it.
+ */
+@Slf4j
+@Service
+public class IdempotencyService {
+
+    private static final TypeReference<ApiResponse<Member>> RESPONSE_TYPE = new TypeReference<>() {};
+
+    private final IdempotencyRecordRepository recordRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final JsonMapper jsonMapper;
+    private final Cache<String, Execution> executions;
+    private final boolean persist;
+    private final Duration ttl;
+    private final Duration waitTimeout;
+    private final Counter replays;
+
+    public IdempotencyService(IdempotencyRecordRepository recordRepository,
+                              PlatformTransactionManager transactionManager,
+                              JsonMapper jsonMapper,
+                              MeterRegistry meterRegistry,
+                              @Value("${club.idempotency.max-keys:100000}") long maxKeys,
+                              @Value("${club.idempotency.ttl:PT24H}") Duration ttl,
+                              @Value("${club.idempotency.wait-timeout:PT30S}") Duration waitTimeout,
+                              @Value("${club.idempotency.persist:false}") boolean persist) {
+        this.recordRepository = recordRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.jsonMapper = jsonMapper;
+        this.persist = persist;
+        this.ttl = ttl;
+        this.waitTimeout = waitTimeout;
+        this.executions = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterWrite(ttl)
+                .build();
+        this.replays = Counter.builder("club.idempotency.replays")
+                .description("Registrations answered from a stored Idempotency-Key response")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Identifies a registration request by everything the client sent, so a key reused for
+     * a different applicant is refused instead of replaying the first response. Server-set
+     * fields (id, status, timestamps) are left out; the email is normalized as the duplicate
+     * check normalizes it.
+     */
+    public String fingerprint(Member member) {
+        String canonical = jsonMapper.writeValueAsString(Arrays.asList(
+                member.getFullName(),
+                member.getEmail() == null ? null : member.getEmail().trim().toLowerCase(),
+                member.getPhone(),
+                member.getDateOfBirth() == null ? null : member.getDateOfBirth().toString(),
+                member.getMembershipType(),
+                member.getAddress()));
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(canonical.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Runs {@code registration} once per key. {@code fingerprint} identifies the request the
+     * key belongs to; reusing a key for a different request is refused.
+     */
+    public Outcome execute(String key, String fingerprint, Supplier<ApiResponse<Member>> registration) {
+        if (key.isBlank() || key.length() > 255) {
+            throw new InvalidRequestException("Idempotency-Key must be 1-255 characters");
+        }
+        Execution mine = new Execution(fingerprint, new CompletableFuture<>());
+        Execution existing = executions.asMap().putIfAbsent(key, mine);
+        if (existing != null) {
+            return replay(existing, fingerprint);
+        }
+
+        try {
+            Optional<IdempotencyRecord> stored = persist ? recordRepository.findById(key) : Optional.empty();
+            if (stored.isEmpty()) {
+                try {
+                    ApiResponse<Member> response = persist
+                            ? claimAndRun(key, fingerprint, registration)
+                            : registration.get();
+                    mine.getResult().complete(response);
+                    return new Outcome(response, false);
+                } catch (DataIntegrityViolationException e) {
+                    // Another instance claimed the key first; its row is committed once our insert fails
+                    stored = persist ? recordRepository.findById(key) : Optional.empty();
+                    if (stored.isEmpty()) {
+                        throw e;
+                    }
+                }
+            }
+            mine.getResult().complete(jsonMapper.readValue(stored.get().getResponseBody(), RESPONSE_TYPE));
+            return replay(new Execution(stored.get().getFingerprint(), mine.getResult()), fingerprint);
+        } catch (RuntimeException e) {
+            // Only successful outcomes are remembered; waiters see the same failure
+            executions.asMap().remove(key, mine);
+            mine.getResult().completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    // The key row goes in first and holds its lock until the registration commits
+    private ApiResponse<Member> claimAndRun(String key, String fingerprint, Supplier<ApiResponse<Member>> registration) {
+        return transactionTemplate.execute(status -> {
+            IdempotencyRecord record = recordRepository.saveAndFlush(
+                    new IdempotencyRecord(key, fingerprint, "", LocalDateTime.now()));
+            ApiResponse<Member> body = registration.get();
+            record.setResponseBody(jsonMapper.writeValueAsString(body));
+            return body;
+        });
+    }
+
+    private Outcome replay(Execution execution, String fingerprint) {
+        if (!execution.getFingerprint().equals(fingerprint)) {
+            throw new InvalidRequestException("Idempotency-Key was already used for a different registration");
+        }
+        try {
+            ApiResponse<Member> response = execution.getResult().get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            replays.increment();
+            return new Outcome(response, true);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new RegistrationException(
+                    "A request with this Idempotency-Key is still being processed. Please retry shortly.",
+                    "IDEMPOTENCY_IN_PROGRESS");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the original request", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${club.idempotency.purge-interval:PT1H}")
+    void purgeExpired() {
+        if (!persist) {
+            return;
+        }
+        int purged = recordRepository.deleteCreatedBefore(LocalDateTime.now().minus(ttl));
+        if (purged > 0) {
+            log.info("Purged {} expired idempotency keys", purged);
+        }
+    }
+
+    /** The response to send, and whether it was replayed from an earlier request. */
+    @Getter
+    @RequiredArgsConstructor
+    public static class Outcome {
+        private final ApiResponse<Member> response;
+        private final boolean replayed;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class Execution {
+        private final String fingerprint;
+        private final CompletableFuture<ApiResponse<Member>> result;
+    }
+}
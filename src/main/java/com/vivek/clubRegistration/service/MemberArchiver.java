@@ -0,0 +1,125 @@
+package com.vivek.clubRegistration.service;
+
+import com.vivek.clubRegistration.event.MemberEvent;
+import com.vivek.clubRegistration.model.Member;
+import com.vivek.clubRegistration.model.MemberStatus;
+import com.vivek.clubRegistration.repository.ArchivedMemberRepository;
+import com.vivek.clubRegistration.repository.MemberRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Moves members that will never change again out of the hot {@code members} table into
+ * {@code members_archive}: REJECTED applications older than {@code club.archive.rejected-after}
+ * and, when {@code club.archive.pending-after} is set, PENDING ones nobody reviewed in time.
+ * Age is measured from {@code registeredAt}.
+ *
+ * <p>Each batch is its own short transaction: lock up to {@code batch-size} candidates, copy
+ * them with one INSERT ... SELECT, delete them, and publish an ARCHIVED event per member so
+ * stats, ETags and live dashboards drop them. A failed batch rolls back on its own and the
+ * run stops; the next run picks up where it left off.
+ */
+@Slf4j
+@Service
+public class MemberArchiver {
+
+    private final MemberRepository memberRepository;
+    private final ArchivedMemberRepository archiveRepository;
+    private final EmailIndex emailIndex;
+    private final ApplicationEventPublisher events;
+    private final TransactionTemplate batchTx;
+    private final Map<MemberStatus, Counter> archived = new EnumMap<>(MemberStatus.class);
+
+    private final boolean enabled;
+    private final Duration rejectedAfter;
+    private final Duration pendingAfter;
+    private final int batchSize;
+
+    public MemberArchiver(MemberRepository memberRepository,
+                          ArchivedMemberRepository archiveRepository,
+                          EmailIndex emailIndex,
+                          ApplicationEventPublisher events,
+                          PlatformTransactionManager transactionManager,
+                          MeterRegistry meterRegistry,
+                          @Value("${club.archive.enabled:true}") boolean enabled,
+                          @Value("${club.archive.rejected-after:P90D}") Duration rejectedAfter,
+                          @Value("${club.archive.pending-after:#{null}}") Duration pendingAfter,
+                          @Value("${club.archive.batch-size:500}") int batchSize) {
+        this.memberRepository = memberRepository;
+        this.archiveRepository = archiveRepository;
+        this.emailIndex = emailIndex;
+        this.events = events;
+        this.batchTx = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.rejectedAfter = rejectedAfter;
+        this.pendingAfter = pendingAfter;
+        this.batchSize = batchSize;
+        for (MemberStatus status : List.of(MemberStatus.REJECTED, MemberStatus.PENDING)) {
+            archived.put(status, Counter.builder("club.archive.members")
+                    .tag("status", status.name().toLowerCase())
+                    .description("Members moved to members_archive")
+                    .register(meterRegistry));
+        }
+    }
+
+    @Scheduled(cron = "${club.archive.cron:0 30 3 * * *}")
+    void scheduledRun() {
+        if (enabled) {
+            archive();
+        }
+    }
+
+    /** Archives every eligible member now and returns how many were moved. */
+    public long archive() {
+        LocalDateTime now = LocalDateTime.now();
+        long moved = archive(MemberStatus.REJECTED, now.minus(rejectedAfter));
+        if (pendingAfter != null) {
+            moved += archive(MemberStatus.PENDING, now.minus(pendingAfter));
+        }
+        return moved;
+    }
+
+    private long archive(MemberStatus status, LocalDateTime cutoff) {
+        long moved = 0;
+        int batch;
+        do {
+            batch = batchTx.execute(tx -> archiveBatch(status, cutoff));
+            moved += batch;
+        } while (batch == batchSize);
+        if (moved > 0) {
+            log.info("Archived {} {} members registered before {}", moved, status, cutoff);
+        }
+        return moved;
+    }
+
+    private int archiveBatch(MemberStatus status, LocalDateTime cutoff) {
+        // Locked so an admin action on the same member either finishes first or waits for us
+        List<Member> members = memberRepository.findArchivableForUpdate(status, cutoff, Limit.of(batchSize));
+        if (members.isEmpty()) {
+            return 0;
+        }
+        archiveRepository.copyFromMembers(members.stream().map(Member::getId).toList(), LocalDateTime.now());
+        memberRepository.deleteAll(members);
+        for (Member member : members) {
+            // Normally already there; covers members this instance's filter never saw
+            emailIndex.add(member.getEmail());
+            events.publishEvent(MemberEvent.of(MemberEvent.Type.ARCHIVED, member, status));
+        }
+        archived.get(status).increment(members.size());
+        return members.size();
+    }
+}
@@ -0,0 +1,115 @@
+package com.vivek.clubRegistration.service;
+
+import com.vivek.clubRegistration.model.Member;
+import com.vivek.clubRegistration.repository.MemberRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.SequenceWriter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Streams the whole members table to an output stream in constant memory:
+ * rows are read through a server-side cursor, written as they arrive and
+ * detached from the persistence context straight after.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MemberExportService {
+
+    private static final int FLUSH_EVERY = 1000;
+
+    private static final String CSV_HEADER =
+            "id,fullName,email,phone,dateOfBirth,membershipType,address,status,registeredAt,approvedAt,adminNote";
+
+    private final MemberRepository memberRepository;
+    private final EntityManager entityManager;
+    private final JsonMapper jsonMapper;
+
+    // ════════════════════════════════════════════════════════
+    //  NDJSON — one Member object per line
+    // ════════════════════════════════════════════════════════
+    @Transactional(readOnly = true)
+    public long exportNdjson(OutputStream out) throws IOException {
+        long rows = 0;
+        try (Stream<Member> members = memberRepository.streamAllOrderById();
+             SequenceWriter writer = jsonMapper.writer()
+                     .withRootValueSeparator("\n")
+                     .writeValues(out)) {
+            Iterator<Member> it = members.iterator();
+            while (it.hasNext()) {
+                Member member = it.next();
+                writer.write(member);
+                entityManager.detach(member);
+                if (++rows % FLUSH_EVERY == 0) {
+                    writer.flush();
+                }
+            }
+            // SequenceWriter only writes separators between values
+            if (rows > 0) {
+                writer.flush();
+                out.write('\n');
+            }
+        }
+        log.info("NDJSON export finished: {} members", rows);
+        return rows;
+    }
+
+    // ════════════════════════════════════════════════════════
+    //  CSV — RFC 4180 quoting
+    // ════════════════════════════════════════════════════════
+    @Transactional(readOnly = true)
+    public long exportCsv(OutputStream out) throws IOException {
+        long rows = 0;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        try (Stream<Member> members = memberRepository.streamAllOrderById()) {
+            writer.write(CSV_HEADER);
+            writer.write("\r\n");
+            Iterator<Member> it = members.iterator();
+            while (it.hasNext()) {
+                Member member = it.next();
+                writeCsvRow(writer, member);
+                entityManager.detach(member);
+                if (++rows % FLUSH_EVERY == 0) {
+                    writer.flush();
+                }
+            }
+        }
+        writer.flush();
+        log.info("CSV export finished: {} members", rows);
+        return rows;
+    }
+
+    private static void writeCsvRow(Writer w, Member m) throws IOException {
+        w.write(String.valueOf(m.getId()));
+        for (Object value : new Object[]{
+                m.getFullName(), m.getEmail(), m.getPhone(), m.getDateOfBirth(),
+                m.getMembershipType(), m.getAddress(), m.getStatus(),
+                m.getRegisteredAt(), m.getApprovedAt(), m.getAdminNote()}) {
+            w.write(',');
+            if (value != null) {
+                w.write(csvEscape(value.toString()));
+            }
+        }
+        w.write("\r\n");
+    }
+
+    private static String csvEscape(String value) {
+        boolean needsQuotes = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!needsQuotes) return value;
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
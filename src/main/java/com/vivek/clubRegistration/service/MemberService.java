@@ -1,26 +1,61 @@
 package com.vivek.clubRegistration.service;
 
+import com.vivek.clubRegistration.event.MemberEvent;
+import com.vivek.clubRegistration.exception.InvalidRequestException;
 import com.vivek.clubRegistration.exception.RegistrationException;
+import com.vivek.clubRegistration.model.BatchOperationResult;
+import com.vivek.clubRegistration.model.BulkRegistrationResult;
+import com.vivek.clubRegistration.model.CursorPage;
 import com.vivek.clubRegistration.model.Member;
+import com.vivek.clubRegistration.model.MemberCursor;
+import com.vivek.clubRegistration.model.MemberSearchCriteria;
 import com.vivek.clubRegistration.model.MemberStatus;
+import com.vivek.clubRegistration.model.MemberSummary;
+import com.vivek.clubRegistration.model.WaitlistPosition;
+import com.vivek.clubRegistration.repository.ArchivedMemberRepository;
 import com.vivek.clubRegistration.repository.MemberRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class MemberService {
 
+    private static final Pattern EMAIL_KEY_VIOLATION = Pattern.compile("uk_member_email|\\(email[ )]");
+
     private final MemberRepository memberRepository;
+    private final ArchivedMemberRepository archiveRepository;
+    private final CapacityService capacityService;
+    private final Waitlist waitlist;
+    private final EmailIndex emailIndex;
+    private final RegistrationMetrics metrics;
+    private final StatsService statsService;
+    private final ApplicationEventPublisher events;
+    private final EntityManager entityManager;
+    private final Validator validator;
 
     @Value("${club.max.members:100}")
     private int maxMembers;
@@ -28,80 +63,234 @@ public class MemberService {
     @Value("${club.min.age:18}")
     private int minAge;
 
+    @Value("${club.bulk.max-size:50000}")
+    private int maxBulkSize;
+
+    @Value("${club.admin.batch.max-size:10000}")
+    private int maxAdminBatchSize;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int jdbcBatchSize;
+
+    @Value("${club.page.default-size:50}")
+    private int defaultPageSize;
+
+    @Value("${club.page.max-size:500}")
+    private int maxPageSize;
+
     // ════════════════════════════════════════════════════════
     //  REGISTER — Enforces all 4 membership rules
     // ════════════════════════════════════════════════════════
+    /**
+     * Registers a new applicant as PENDING, or as WAITLISTED when the club is full or others
+     * are already waiting — see {@link Waitlist}.
+     */
     @Transactional
     public Member registerMember(Member member) {
         log.info("Processing registration for email: {}", member.getEmail());
 
         // ── Rule 1: No Duplicate Email ─────────────────────
-        if (memberRepository.existsByEmail(member.getEmail().toLowerCase().trim())) {
-            throw new RegistrationException(
-                    "This email address is already registered. " +
-                            "Each person may only register once.",
-                    "DUPLICATE_EMAIL"
-            );
+        long t = System.nanoTime();
+        boolean taken = isEmailTaken(member.getEmail().toLowerCase().trim());
+        t = metrics.stage(RegistrationMetrics.Stage.DUPLICATE_CHECK, t);
+        if (taken) {
+            throw rejected(duplicateEmail());
         }
 
         // ── Rule 2: Age Restriction (18+) ──────────────────
-        if (member.getAge() < minAge) {
-            throw new RegistrationException(
-                    "You must be at least " + minAge + " years old to join. " +
-                            "Your current age is " + member.getAge() + ".",
-                    "AGE_RESTRICTION"
-            );
-        }
+        checkAge(member);
+        t = metrics.stage(RegistrationMetrics.Stage.AGE, t);
 
         // ── Rule 3: Limited Membership Slots ───────────────
-        long approvedCount = memberRepository.countByStatus(MemberStatus.APPROVED);
-        if (approvedCount >= maxMembers) {
-            throw new RegistrationException(
-                    "The club has reached its maximum capacity of " + maxMembers +
-                            " members. Please check back later.",
-                    "CAPACITY_FULL"
-            );
-        }
+        // A full club puts the applicant on the waitlist instead of refusing them
+        MemberStatus initial = initialStatus();
+        t = metrics.stage(RegistrationMetrics.Stage.CAPACITY, t);
 
         // ── Rule 4: Membership Approval Required ───────────
-        // All new members start as PENDING — admin must approve
-        member.setStatus(MemberStatus.PENDING);
+        // New members start as PENDING (or WAITLISTED) — admin must approve
+        member.setStatus(initial);
         member.setEmail(member.getEmail().toLowerCase().trim());
         member.setMembershipType(member.getMembershipType().toUpperCase());
         member.setRegisteredAt(LocalDateTime.now());
 
-        Member saved = memberRepository.save(member);
-        log.info("Member registered successfully with ID: {} | Status: PENDING", saved.getId());
+        Member saved;
+        try {
+            saved = memberRepository.saveAndFlush(member);
+        } catch (DataIntegrityViolationException e) {
+            // uk_member_email is the final guard when the index or a concurrent insert raced us
+            if (isEmailConstraintViolation(e)) throw rejected(duplicateEmail());
+            throw e;
+        } finally {
+            metrics.stage(RegistrationMetrics.Stage.INSERT, t);
+        }
+        emailIndex.add(saved.getEmail());
+        events.publishEvent(MemberEvent.of(MemberEvent.Type.REGISTERED, saved, null));
+        log.info("Member registered successfully with ID: {} | Status: {}", saved.getId(), saved.getStatus());
         return saved;
     }
 
+    /**
+     * Rule 2 on its own — cheap and DB-free, so the async intake can reject early.
+     */
+    public void checkAge(Member member) {
+        if (member.getAge() < minAge) {
+            throw rejected(new RegistrationException(
+                    "You must be at least " + minAge + " years old to join. " +
+                            "Your current age is " + member.getAge() + ".",
+                    "AGE_RESTRICTION"
+            ));
+        }
+    }
+
+    // ════════════════════════════════════════════════════════
+    //  BULK REGISTER — Same 4 rules, evaluated set-wise
+    // ════════════════════════════════════════════════════════
+    /**
+     * Registers many members in one transaction. Each row gets its own result; rows that
+     * break a rule are reported and skipped, the rest are inserted in JDBC batches.
+     * Duplicate emails are checked within the batch and against the DB in one IN query
+     * per chunk, and capacity is evaluated once for the whole batch.
+     */
+    @Transactional
+    public List<BulkRegistrationResult> registerMembers(List<Member> members) {
+        if (members.size() > maxBulkSize) {
+            throw new InvalidRequestException("A bulk request may contain at most " + maxBulkSize + " members");
+        }
+        log.info("Processing bulk registration of {} members", members.size());
+
+        BulkRegistrationResult[] results = new BulkRegistrationResult[members.size()];
+
+        // ── Bean validation + normalisation ────────────────
+        Map<String, Integer> firstIndexByEmail = new HashMap<>();
+        for (int i = 0; i < members.size(); i++) {
+            Member member = members.get(i);
+            Set<ConstraintViolation<Member>> violations = validator.validate(member);
+            if (!violations.isEmpty()) {
+                results[i] = BulkRegistrationResult.rejected(i, member.getEmail(), "VALIDATION",
+                        violations.stream()
+                                .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                                .sorted()
+                                .collect(Collectors.joining("; ")));
+                continue;
+            }
+            String email = member.getEmail().toLowerCase().trim();
+
+            // ── Rule 1a: No duplicate email inside the batch ──
+            if (firstIndexByEmail.putIfAbsent(email, i) != null) {
+                results[i] = BulkRegistrationResult.rejected(i, email, "DUPLICATE_EMAIL",
+                        "Email appears more than once in this batch.");
+            }
+        }
+
+        // ── Rule 1b: No duplicate email in the DB (one query per chunk) ──
+        // Every email is looked up in the archive, which no constraint guards; only emails the
+        // index cannot rule out need to be looked up in members
+        Set<String> existing = new HashSet<>();
+        List<String> emails = List.copyOf(firstIndexByEmail.keySet());
+        for (int from = 0; from < emails.size(); from += 1000) {
+            List<String> chunk = emails.subList(from, Math.min(from + 1000, emails.size()));
+            existing.addAll(archiveRepository.findExistingEmails(chunk));
+            List<String> candidates = chunk.stream().filter(emailIndex::mightContain).toList();
+            if (!candidates.isEmpty()) {
+                existing.addAll(memberRepository.findExistingEmails(candidates));
+                // Members archived between the two queries; see isEmailTaken
+                List<String> missed = candidates.stream().filter(e -> !existing.contains(e)).toList();
+                if (!missed.isEmpty()) {
+                    existing.addAll(archiveRepository.findExistingEmails(missed));
+                }
+            }
+        }
+
+        // ── Rule 3: Capacity, evaluated once ──────────────
+        MemberStatus initial = initialStatus();
+
+        List<Member> accepted = new ArrayList<>();
+        List<Integer> acceptedIndexes = new ArrayList<>();
+        for (int i = 0; i < members.size(); i++) {
+            if (results[i] != null) continue;
+            Member member = members.get(i);
+            String email = member.getEmail().toLowerCase().trim();
+
+            if (existing.contains(email)) {
+                results[i] = BulkRegistrationResult.rejected(i, email, "DUPLICATE_EMAIL",
+                        "This email address is already registered.");
+            } else if (member.getAge() < minAge) {
+                // ── Rule 2: Age Restriction ────────────────
+                results[i] = BulkRegistrationResult.rejected(i, email, "AGE_RESTRICTION",
+                        "Must be at least " + minAge + " years old. Current age is " + member.getAge() + ".");
+            } else {
+                // ── Rule 4: Starts as PENDING (or WAITLISTED) ──
+                member.setId(null);
+                member.setStatus(initial);
+                member.setEmail(email);
+                member.setMembershipType(member.getMembershipType().toUpperCase());
+                member.setRegisteredAt(LocalDateTime.now());
+                member.setApprovedAt(null);
+                member.setAdminNote(null);
+                accepted.add(member);
+                acceptedIndexes.add(i);
+            }
+        }
+
+        // ── Insert in JDBC-batch sized chunks, keeping the persistence context small ──
+        try {
+            for (int from = 0; from < accepted.size(); from += jdbcBatchSize) {
+                List<Member> chunk = accepted.subList(from, Math.min(from + jdbcBatchSize, accepted.size()));
+                memberRepository.saveAll(chunk);
+                memberRepository.flush();
+                entityManager.clear();
+            }
+        } catch (DataIntegrityViolationException e) {
+            if (!isEmailConstraintViolation(e)) throw e;
+            throw rejected(new RegistrationException(
+                    "An email in this batch was registered concurrently. No members were saved; please retry.",
+                    "DUPLICATE_EMAIL"));
+        }
+        for (Member m : accepted) {
+            emailIndex.add(m.getEmail());
+            events.publishEvent(MemberEvent.of(MemberEvent.Type.REGISTERED, m, null));
+        }
+        for (int k = 0; k < accepted.size(); k++) {
+            int i = acceptedIndexes.get(k);
+            results[i] = BulkRegistrationResult.registered(i, accepted.get(k));
+        }
+        for (BulkRegistrationResult result : results) {
+            if (!result.isSuccess()) metrics.rejected(result.getRule());
+        }
+
+        log.info("Bulk registration finished: {} of {} registered", accepted.size(), members.size());
+        return List.of(results);
+    }
+
     // ════════════════════════════════════════════════════════
     //  ADMIN: Approve a member
     // ════════════════════════════════════════════════════════
     @Transactional
     public Member approveMember(Long id) {
-        Member member = findById(id);
+        Member member = findByIdForUpdate(id);
 
         if (member.getStatus() == MemberStatus.APPROVED) {
             throw new RegistrationException("Member is already approved.");
         }
 
-        // Re-check capacity before approving
-        long approvedCount = memberRepository.countByStatus(MemberStatus.APPROVED);
-        if (approvedCount >= maxMembers) {
-            throw new RegistrationException(
+        // Take a slot atomically — refused once the club is at capacity
+        if (!capacityService.tryReserveSlot()) {
+            throw rejected(new RegistrationException(
                     "Cannot approve. Club has reached max capacity of " + maxMembers + " members.",
                     "CAPACITY_FULL"
-            );
+            ));
         }
 
+        MemberStatus previous = member.getStatus();
         member.setStatus(MemberStatus.APPROVED);
         member.setApprovedAt(LocalDateTime.now());
         member.setAdminNote(null);
         log.info("Member ID {} approved.", id);
 
         // ✅ Fixed: was "S save" — corrected to "Member"
-        return memberRepository.save(member);
+        Member saved = memberRepository.save(member);
+        events.publishEvent(MemberEvent.of(MemberEvent.Type.APPROVED, saved, previous));
+        return saved;
     }
 
     // ════════════════════════════════════════════════════════
@@ -109,11 +298,18 @@ public class MemberService {
     // ════════════════════════════════════════════════════════
     @Transactional
     public Member rejectMember(Long id, String note) {
-        Member member = findById(id);
+        Member member = findByIdForUpdate(id);
+        MemberStatus previous = member.getStatus();
+        if (previous == MemberStatus.APPROVED) {
+            capacityService.releaseSlot();
+            waitlist.promote(1);
+        }
         member.setStatus(MemberStatus.REJECTED);
         member.setAdminNote(note != null ? note : "Does not meet membership requirements.");
         log.info("Member ID {} rejected. Note: {}", id, note);
-        return memberRepository.save(member);
+        Member saved = memberRepository.save(member);
+        events.publishEvent(MemberEvent.of(MemberEvent.Type.REJECTED, saved, previous));
+        return saved;
     }
 
     // ════════════════════════════════════════════════════════
@@ -121,48 +317,277 @@ public class MemberService {
     // ════════════════════════════════════════════════════════
     @Transactional
     public void deleteMember(Long id) {
-        Member member = findById(id);
+        Member member = findByIdForUpdate(id);
+        if (member.getStatus() == MemberStatus.APPROVED) {
+            capacityService.releaseSlot();
+            waitlist.promote(1);
+        }
         memberRepository.delete(member);
+        emailIndex.remove(member.getEmail());
+        events.publishEvent(MemberEvent.of(MemberEvent.Type.DELETED, member, member.getStatus()));
         log.info("Member ID {} deleted.", id);
     }
 
+    // ════════════════════════════════════════════════════════
+    //  ADMIN: Batch approve / reject / delete
+    // ════════════════════════════════════════════════════════
+    /**
+     * Approves many members in one transaction. Targets are loaded and locked in one query,
+     * oldest application first, and capacity is reserved once for the whole batch — when
+     * fewer slots are free than requested, the earliest applicants get them.
+     */
+    @Transactional
+    public BatchOperationResult approveMembers(List<Long> ids) {
+        Map<Long, String> failed = new LinkedHashMap<>();
+        List<Member> targets = new ArrayList<>();
+        for (Member member : loadBatch(ids, failed)) {
+            if (member.getStatus() == MemberStatus.APPROVED) {
+                failed.put(member.getId(), "Member is already approved.");
+            } else {
+                targets.add(member);
+            }
+        }
+
+        int granted = capacityService.reserveUpTo(targets.size());
+        List<Long> succeeded = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < targets.size(); i++) {
+            Member member = targets.get(i);
+            if (i >= granted) {
+                metrics.rejected("CAPACITY_FULL");
+                failed.put(member.getId(), "Club has reached max capacity of " + maxMembers + " members.");
+                continue;
+            }
+            MemberStatus previous = member.getStatus();
+            member.setStatus(MemberStatus.APPROVED);
+            member.setApprovedAt(now);
+            member.setAdminNote(null);
+            succeeded.add(member.getId());
+            events.publishEvent(MemberEvent.of(MemberEvent.Type.APPROVED, member, previous));
+        }
+        // Dirty entities are flushed at commit as batched UPDATEs
+        log.info("Batch approve: {} approved, {} failed", succeeded.size(), failed.size());
+        return new BatchOperationResult(succeeded, failed);
+    }
+
+    @Transactional
+    public BatchOperationResult rejectMembers(List<Long> ids, String note) {
+        Map<Long, String> failed = new LinkedHashMap<>();
+        List<Long> succeeded = new ArrayList<>();
+        int released = 0;
+        for (Member member : loadBatch(ids, failed)) {
+            MemberStatus previous = member.getStatus();
+            if (previous == MemberStatus.APPROVED) released++;
+            member.setStatus(MemberStatus.REJECTED);
+            member.setAdminNote(note != null ? note : "Does not meet membership requirements.");
+            succeeded.add(member.getId());
+            events.publishEvent(MemberEvent.of(MemberEvent.Type.REJECTED, member, previous));
+        }
+        capacityService.releaseSlots(released);
+        waitlist.promote(released);
+        log.info("Batch reject: {} rejected, {} failed", succeeded.size(), failed.size());
+        return new BatchOperationResult(succeeded, failed);
+    }
+
+    @Transactional
+    public BatchOperationResult deleteMembers(List<Long> ids) {
+        Map<Long, String> failed = new LinkedHashMap<>();
+        List<Member> targets = loadBatch(ids, failed);
+        int released = 0;
+        List<Long> succeeded = new ArrayList<>();
+        for (Member member : targets) {
+            if (member.getStatus() == MemberStatus.APPROVED) released++;
+            succeeded.add(member.getId());
+        }
+        memberRepository.deleteAllByIdInBatch(succeeded);
+        capacityService.releaseSlots(released);
+        waitlist.promote(released);
+        for (Member member : targets) {
+            emailIndex.remove(member.getEmail());
+            events.publishEvent(MemberEvent.of(MemberEvent.Type.DELETED, member, member.getStatus()));
+        }
+        log.info("Batch delete: {} deleted, {} failed", succeeded.size(), failed.size());
+        return new BatchOperationResult(succeeded, failed);
+    }
+
+    // Loads and locks the batch in one query; unknown IDs are reported as failures
+    private List<Member> loadBatch(List<Long> ids, Map<Long, String> failed) {
+        Set<Long> requested = new LinkedHashSet<>(ids);
+        if (requested.isEmpty()) {
+            throw new InvalidRequestException("No member IDs given");
+        }
+        if (requested.size() > maxAdminBatchSize) {
+            throw new InvalidRequestException("A batch may contain at most " + maxAdminBatchSize + " members");
+        }
+        List<Member> members = memberRepository.findAllByIdInForUpdate(requested);
+        members.forEach(m -> requested.remove(m.getId()));
+        requested.forEach(id -> failed.put(id, "Member not found with ID: " + id));
+        return members;
+    }
+
     // ════════════════════════════════════════════════════════
     //  QUERIES
     // ════════════════════════════════════════════════════════
-    public List<Member> getAllMembers() {
-        return memberRepository.findAllByOrderByRegisteredAtDesc();
+    /** Where a member stands on the waitlist; the position is null once they are no longer waiting. */
+    @Transactional(readOnly = true)
+    public WaitlistPosition getWaitlistPosition(Long id) {
+        Member member = findById(id);
+        return new WaitlistPosition(member.getId(), member.getStatus(),
+                waitlist.position(member).orElse(null), waitlist.size());
+    }
+
+    /**
+     * Keyset page of members ordered newest first. {@code status} may be null for all statuses,
+     * {@code cursor} null for the first page and {@code limit} null for the default page size.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<MemberSummary> getMembersPage(MemberStatus status, String cursor, Integer limit) {
+        int size = pageSize(limit);
+
+        // Fetch one extra row to learn whether another page exists
+        Limit fetch = Limit.of(size + 1);
+        List<MemberSummary> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = status == null
+                    ? memberRepository.findSummaryPage(fetch)
+                    : memberRepository.findSummaryPageByStatus(status, fetch);
+        } else {
+            MemberCursor after = MemberCursor.decode(cursor);
+            rows = status == null
+                    ? memberRepository.findSummaryPageAfter(after.getRegisteredAt(), after.getId(), fetch)
+                    : memberRepository.findSummaryPageByStatusAfter(status, after.getRegisteredAt(), after.getId(), fetch);
+        }
+        return toPage(rows, size);
+    }
+
+    // ════════════════════════════════════════════════════════
+    //  SEARCH — filtered keyset pages
+    // ════════════════════════════════════════════════════════
+    /**
+     * Filters by status, membership type, registration date range and a name/email prefix
+     * or substring. Every combination is served by an index: the equality filters lead the
+     * composite indexes and the text match uses the name/email prefix or trigram indexes.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<MemberSummary> searchMembers(MemberSearchCriteria criteria, String cursor, Integer limit) {
+        int size = pageSize(limit);
+        MemberSearchCriteria normalized = normalize(criteria);
+        MemberCursor after = cursor == null || cursor.isBlank() ? null : MemberCursor.decode(cursor);
+        return toPage(memberRepository.search(normalized, after, size + 1), size);
     }
 
-    public List<Member> getPendingMembers() {
-        return memberRepository.findByStatusOrderByRegisteredAtDesc(MemberStatus.PENDING);
+    private MemberSearchCriteria normalize(MemberSearchCriteria criteria) {
+        String query = criteria.getQuery() == null || criteria.getQuery().isBlank()
+                ? null : criteria.getQuery().trim().toLowerCase();
+        if (query != null && criteria.getMatch() == MemberSearchCriteria.Match.CONTAINS && query.length() < 3) {
+            // Shorter substrings can't use the trigram index
+            throw new InvalidRequestException("Substring search needs at least 3 characters");
+        }
+        if (criteria.getRegisteredFrom() != null && criteria.getRegisteredTo() != null
+                && criteria.getRegisteredFrom().isAfter(criteria.getRegisteredTo())) {
+            throw new InvalidRequestException("from must not be after to");
+        }
+        String type = criteria.getMembershipType() == null || criteria.getMembershipType().isBlank()
+                ? null : criteria.getMembershipType().trim().toUpperCase();
+        return criteria.toBuilder()
+                .membershipType(type)
+                .query(query)
+                .build();
     }
 
-    public List<Member> getApprovedMembers() {
-        return memberRepository.findByStatusOrderByRegisteredAtDesc(MemberStatus.APPROVED);
+    private int pageSize(Integer limit) {
+        int size = limit == null ? defaultPageSize : limit;
+        if (size < 1 || size > maxPageSize) {
+            throw new InvalidRequestException("limit must be between 1 and " + maxPageSize);
+        }
+        return size;
     }
 
+    // rows holds up to size + 1 entries; the extra one only signals that another page exists
+    private static CursorPage<MemberSummary> toPage(List<MemberSummary> rows, int size) {
+        if (rows.size() <= size) {
+            return new CursorPage<>(rows, null);
+        }
+        List<MemberSummary> items = rows.subList(0, size);
+        return new CursorPage<>(items, MemberCursor.of(items.get(size - 1)).encode());
+    }
+
+    @Transactional(readOnly = true)
     public Member findById(Long id) {
         return memberRepository.findById(id)
                 .orElseThrow(() -> new RegistrationException("Member not found with ID: " + id));
     }
 
+    // ════════════════════════════════════════════════════════
+    //  HELPERS
+    // ════════════════════════════════════════════════════════
+    private boolean isEmailTaken(String normalizedEmail) {
+        // Archived members keep their email. No constraint backs up a stale index there, so the
+        // archive is always probed; the index only saves the members probe
+        if (archiveRepository.existsByEmail(normalizedEmail)) {
+            return true;
+        }
+        if (!emailIndex.mightContain(normalizedEmail)) {
+            return false;
+        }
+        if (memberRepository.existsByEmail(normalizedEmail)) {
+            return true;
+        }
+        // An archival batch may have moved the member between the two probes. It commits the
+        // archive copy together with the delete, so the member is now found in the archive
+        if (archiveRepository.existsByEmail(normalizedEmail)) {
+            return true;
+        }
+        emailIndex.recordFalsePositive();
+        return false;
+    }
+
+    // Waitlisting while others wait keeps newcomers from jumping the queue
+    private MemberStatus initialStatus() {
+        return capacityService.isFull() || !waitlist.isEmpty() ? MemberStatus.WAITLISTED : MemberStatus.PENDING;
+    }
+
+    private RegistrationException rejected(RegistrationException e) {
+        metrics.rejected(e.getRule());
+        return e;
+    }
+
+    private static RegistrationException duplicateEmail() {
+        return new RegistrationException(
+                "This email address is already registered. " +
+                        "Each person may only register once.",
+                "DUPLICATE_EMAIL"
+        );
+    }
+
+    private static boolean isEmailConstraintViolation(DataIntegrityViolationException e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof ConstraintViolationException cve && cve.getConstraintName() != null
+                    && cve.getConstraintName().toLowerCase().contains("uk_member_email")) {
+                return true;
+            }
+        }
+        // Older schemas may also carry an unnamed unique constraint on the email column
+        String message = e.getMostSpecificCause().getMessage();
+        return message != null && EMAIL_KEY_VIOLATION.matcher(message.toLowerCase()).find();
+    }
+
+    // Locks the member row so concurrent admin actions on the same member serialize
+    private Member findByIdForUpdate(Long id) {
+        return memberRepository.findByIdForUpdate(id)
+                .orElseThrow(() -> new RegistrationException("Member not found with ID: " + id));
+    }
+
     // ════════════════════════════════════════════════════════
     //  STATS
     // ════════════════════════════════════════════════════════
+    // Served from memory — see StatsService
     public Map<String, Object> getStats() {
-        long approved = memberRepository.countByStatus(MemberStatus.APPROVED);
-        long pending  = memberRepository.countByStatus(MemberStatus.PENDING);
-        long rejected = memberRepository.countByStatus(MemberStatus.REJECTED);
-
-        Map<String, Object> stats = new HashMap<>();
-        stats.put("total",          approved + pending + rejected);
-        stats.put("approved",       approved);
-        stats.put("pending",        pending);
-        stats.put("rejected",       rejected);
-        stats.put("maxSlots",       maxMembers);
-        stats.put("slotsRemaining", Math.max(0, maxMembers - approved));
-        stats.put("capacityPct",    (int)((approved * 100.0) / maxMembers));
-        return stats;
+        return statsService.getStats();
+    }
+
+    public Map<String, Object> resyncStats() {
+        return statsService.resync();
     }
 
     public int getMaxMembers() { return maxMembers; }
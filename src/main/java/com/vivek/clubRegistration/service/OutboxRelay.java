@@ -0,0 +1,105 @@
+package com.vivek.clubRegistration.service;
+
+import com.vivek.clubRegistration.event.OutboxSink;
+import com.vivek.clubRegistration.model.OutboxEvent;
+import com.vivek.clubRegistration.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Drains {@code member_outbox} to the configured {@link OutboxSink}.
+ *
+ * <p>Each batch is one transaction: lock the oldest {@code batch-size} rows, deliver them,
+ * delete them. If delivery throws, the transaction rolls back and the same batch is retried
+ * on the next poll, so delivery is at least once. Batches are taken in ID order under row
+ * locks, so relays on several instances deliver one batch after another, never side by side,
+ * and each member's events stay in order. A batch that keeps failing holds up the ones after
+ * it; {@code club.outbox.failures} shows when that happens.
+ */
+@Slf4j
+@Service
+public class OutboxRelay {
+
+    private final OutboxEventRepository outboxRepository;
+    private final OutboxSink sink;
+    private final TransactionTemplate batchTx;
+    private final Counter delivered;
+    private final Counter failures;
+    private final Timer lag;
+
+    private final boolean enabled;
+    private final int batchSize;
+
+    public OutboxRelay(OutboxEventRepository outboxRepository,
+                       OutboxSink sink,
+                       PlatformTransactionManager transactionManager,
+                       MeterRegistry meterRegistry,
+                       @Value("${club.outbox.enabled:true}") boolean enabled,
+                       @Value("${club.outbox.batch-size:500}") int batchSize) {
+        this.outboxRepository = outboxRepository;
+        this.sink = sink;
+        this.batchTx = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+
+        delivered = Counter.builder("club.outbox.delivered")
+                .description("Member events handed to the outbox sink").register(meterRegistry);
+        failures = Counter.builder("club.outbox.failures")
+                .description("Outbox batches that failed and will be retried").register(meterRegistry);
+        lag = Timer.builder("club.outbox.lag")
+                .description("Time from commit to delivery of a member event").register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${club.outbox.poll-interval:PT1S}",
+               initialDelayString = "${club.outbox.poll-interval:PT1S}")
+    void scheduledDrain() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            drain();
+        } catch (RuntimeException e) {
+            failures.increment();
+            log.warn("Outbox delivery failed; retrying on the next poll: {}", e.getMessage());
+        }
+    }
+
+    /** Delivers everything currently in the outbox and returns how many events were sent. */
+    public long drain() {
+        long total = 0;
+        int batch;
+        do {
+            batch = batchTx.execute(tx -> deliverBatch());
+            total += batch;
+        } while (batch == batchSize);
+        return total;
+    }
+
+    private int deliverBatch() {
+        List<OutboxEvent> batch = outboxRepository.findBatchForUpdate(Limit.of(batchSize));
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        sink.deliver(batch);
+        outboxRepository.deleteAllInBatch(batch);
+
+        LocalDateTime now = LocalDateTime.now();
+        for (OutboxEvent event : batch) {
+            lag.record(Duration.between(event.getCreatedAt(), now));
+        }
+        delivered.increment(batch.size());
+        return batch.size();
+    }
+}
@@ -0,0 +1,83 @@
+package com.vivek.clubRegistration.service;
+
+import com.vivek.clubRegistration.event.MemberEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Writes every {@link MemberEvent} to {@code member_outbox} in the transaction that published
+ * it, so an event is stored if and only if its change commits. Events are buffered per
+ * transaction and inserted with one JDBC batch just before commit; Hibernate cannot batch
+ * inserts with IDENTITY keys, which a bulk registration of thousands would feel.
+ * {@link OutboxRelay} delivers the rows.
+ */
+@Component
+public class OutboxWriter {
+
+    private static final String INSERT =
+            "INSERT INTO member_outbox (member_id, event_type, payload, created_at) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JsonMapper jsonMapper;
+    private final boolean enabled;
+
+    public OutboxWriter(JdbcTemplate jdbcTemplate,
+                        JsonMapper jsonMapper,
+                        @Value("${club.outbox.enabled:true}") boolean enabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.jsonMapper = jsonMapper;
+        this.enabled = enabled;
+    }
+
+    // A plain listener runs inside the publisher's transaction, unlike @TransactionalEventListener
+    @EventListener
+    public void onMemberEvent(MemberEvent event) {
+        if (!enabled) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            insert(List.of(event));
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        List<MemberEvent> buffer = (List<MemberEvent>) TransactionSynchronizationManager.getResource(this);
+        if (buffer == null) {
+            List<MemberEvent> pending = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    insert(pending);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(OutboxWriter.this);
+                }
+            });
+            buffer = pending;
+        }
+        buffer.add(event);
+    }
+
+    private void insert(List<MemberEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT, events, events.size(), (ps, event) -> {
+            ps.setLong(1, event.getMemberId());
+            ps.setString(2, event.getType().name());
+            ps.setString(3, jsonMapper.writeValueAsString(event));
+            ps.setTimestamp(4, Timestamp.valueOf(event.getOccurredAt()));
+        });
+    }
+}
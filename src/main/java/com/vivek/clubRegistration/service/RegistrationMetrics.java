@@ -0,0 +1,89 @@
+package com.vivek.clubRegistration.service;
+
+import com.vivek.clubRegistration.event.MemberEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Meters for the membership rules. Every meter is resolved once and cached, so the hot
+ * path only pays for a {@code System.nanoTime()} pair and a lock-free record.
+ *
+ * <ul>
+ *   <li>{@code club.registration.stage{stage}} — time spent in each registration rule</li>
+ *   <li>{@code club.registration.rejections{rule}} — rejected registrations/approvals per rule</li>
+ *   <li>{@code club.admin.actions{action}} — committed approve / reject / delete actions</li>
+ * </ul>
+ *
+ * Repository call latency ({@code spring.data.repository.invocations}) and connection-pool
+ * saturation ({@code hikaricp.connections.*}) come from Spring Boot's own auto-configuration.
+ */
+@Component
+public class RegistrationMetrics {
+
+    public enum Stage { DUPLICATE_CHECK, AGE, CAPACITY, INSERT }
+
+    private final MeterRegistry registry;
+    private final Map<Stage, Timer> stageTimers = new EnumMap<>(Stage.class);
+    private final Map<MemberEvent.Type, Counter> adminCounters = new EnumMap<>(MemberEvent.Type.class);
+    private final Map<String, Counter> rejectionCounters = new ConcurrentHashMap<>();
+
+    public RegistrationMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        for (Stage stage : Stage.values()) {
+            stageTimers.put(stage, Timer.builder("club.registration.stage")
+                    .tag("stage", stage.name().toLowerCase())
+                    .description("Time spent in one registration rule")
+                    .register(registry));
+        }
+        adminCounters.put(MemberEvent.Type.APPROVED, adminCounter("approve"));
+        adminCounters.put(MemberEvent.Type.REJECTED, adminCounter("reject"));
+        adminCounters.put(MemberEvent.Type.DELETED, adminCounter("delete"));
+        for (String rule : new String[]{"DUPLICATE_EMAIL", "AGE_RESTRICTION", "CAPACITY_FULL"}) {
+            rejection(rule);
+        }
+    }
+
+    /** Records the time since {@code startNanos} against {@code stage} and returns "now" for chaining. */
+    public long stage(Stage stage, long startNanos) {
+        long now = System.nanoTime();
+        stageTimers.get(stage).record(now - startNanos, TimeUnit.NANOSECONDS);
+        return now;
+    }
+
+    public void rejected(String rule) {
+        if (rule != null) {
+            rejection(rule).increment();
+        }
+    }
+
+    // Counted after commit so rolled-back admin actions don't show up
+    @TransactionalEventListener
+    public void onMemberEvent(MemberEvent event) {
+        Counter counter = adminCounters.get(event.getType());
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+
+    private Counter adminCounter(String action) {
+        return Counter.builder("club.admin.actions")
+                .tag("action", action)
+                .description("Members changed by committed admin actions")
+                .register(registry);
+    }
+
+    private Counter rejection(String rule) {
+        return rejectionCounters.computeIfAbsent(rule, r -> Counter.builder("club.registration.rejections")
+                .tag("rule", r)
+                .description("Requests refused by a membership rule")
+                .register(registry));
+    }
+}
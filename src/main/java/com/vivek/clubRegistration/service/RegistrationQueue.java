@@ -0,0 +1,229 @@
+package com.vivek.clubRegistration.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.vivek.clubRegistration.exception.BackPressureException;
+import com.vivek.clubRegistration.exception.RegistrationException;
+import com.vivek.clubRegistration.model.BulkRegistrationResult;
+import com.vivek.clubRegistration.model.Member;
+import com.vivek.clubRegistration.model.MemberStatus;
+import com.vivek.clubRegistration.model.RegistrationTicket;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Write-behind intake for asynchronous registrations.
+ *
+ * <p>Accepted registrations wait in a bounded queue; when it is full, {@link #submit}
+ * fails fast with {@link BackPressureException} instead of letting requests pile up.
+ * A fixed set of virtual-thread workers drains the queue in micro-batches through
+ * {@link MemberService#registerMembers}, so the DB-bound rules run set-wise. If a batch
+ * fails as a whole (e.g. an email was registered concurrently) its rows are retried one
+ * by one. Outcomes are kept in a size- and time-bounded ticket store for status polling.
+ *
+ * <p>On shutdown the queue stops taking submissions and the workers finish what was already
+ * acknowledged, for up to {@code shutdown-timeout}. Anything still queued after that is
+ * logged with its email and marked FAILED, so it can be resubmitted.
+ */
+@Slf4j
+@Component
+public class RegistrationQueue {
+
+    private final MemberService memberService;
+    private final BlockingQueue<RegistrationTicket> queue;
+    private final Cache<String, RegistrationTicket> tickets;
+    private final int workers;
+    private final int batchSize;
+    private final Duration shutdownTimeout;
+    private final List<Thread> workerThreads = new ArrayList<>();
+    private volatile boolean running;
+
+    private final Counter rejected;
+    private final Timer drainLatency;
+    private final Timer batchTimer;
+
+    public RegistrationQueue(MemberService memberService,
+                             MeterRegistry meterRegistry,
+                             @Value("${club.registration.async.queue-capacity:10000}") int capacity,
+                             @Value("${club.registration.async.workers:4}") int workers,
+                             @Value("${club.registration.async.batch-size:100}") int batchSize,
+                             @Value("${club.registration.async.ticket-ttl:PT1H}") Duration ticketTtl,
+                             @Value("${club.registration.async.shutdown-timeout:PT20S}") Duration shutdownTimeout) {
+        this.memberService = memberService;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.tickets = Caffeine.newBuilder()
+                .maximumSize(capacity * 10L)
+                .expireAfterWrite(ticketTtl)
+                .build();
+        this.workers = workers;
+        this.batchSize = batchSize;
+        this.shutdownTimeout = shutdownTimeout;
+
+        Gauge.builder("club.registration.queue.depth", queue, BlockingQueue::size)
+                .description("Registrations waiting to be written").register(meterRegistry);
+        Gauge.builder("club.registration.queue.remaining", queue, BlockingQueue::remainingCapacity)
+                .description("Free slots in the intake queue").register(meterRegistry);
+        rejected = Counter.builder("club.registration.queue.rejected")
+                .description("Submissions refused because the queue was full").register(meterRegistry);
+        drainLatency = Timer.builder("club.registration.queue.latency")
+                .description("Time from 202 Accepted to final outcome")
+                .publishPercentiles(0.5, 0.99).register(meterRegistry);
+        batchTimer = Timer.builder("club.registration.queue.batch")
+                .description("Time to write one micro-batch").register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        for (int i = 0; i < workers; i++) {
+            workerThreads.add(Thread.ofVirtual().name("registration-worker-" + i).start(this::drainLoop));
+        }
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        long deadline = System.nanoTime() + shutdownTimeout.toNanos();
+        for (Thread worker : workerThreads) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0 || !worker.join(Duration.ofNanos(remaining))) {
+                break;
+            }
+        }
+        for (Thread worker : workerThreads) {
+            worker.interrupt();
+            worker.join(Duration.ofSeconds(1));
+        }
+
+        List<RegistrationTicket> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        abandon(remaining);
+    }
+
+    private void abandon(List<RegistrationTicket> tickets) {
+        List<RegistrationTicket> unprocessed = tickets.stream()
+                .filter(t -> t.getStatus() == RegistrationTicket.Status.QUEUED)
+                .toList();
+        if (unprocessed.isEmpty()) {
+            return;
+        }
+        log.warn("Shutting down with {} acknowledged registrations unprocessed", unprocessed.size());
+        for (RegistrationTicket ticket : unprocessed) {
+            log.warn("Unprocessed registration {} for {}", ticket.getTrackingId(), ticket.getMember().getEmail());
+            finish(ticket, RegistrationTicket.Status.FAILED, null, "GENERAL",
+                    "The server shut down before this registration was processed. Please submit it again.");
+        }
+    }
+
+    // ════════════════════════════════════════════════════════
+    //  INTAKE
+    // ════════════════════════════════════════════════════════
+    public RegistrationTicket submit(Member member) {
+        if (!running) {
+            throw new BackPressureException("Registration is shutting down. Please retry shortly.", 5);
+        }
+        RegistrationTicket ticket = new RegistrationTicket(UUID.randomUUID().toString(), member);
+        tickets.put(ticket.getTrackingId(), ticket);
+        if (!queue.offer(ticket)) {
+            tickets.invalidate(ticket.getTrackingId());
+            rejected.increment();
+            throw new BackPressureException(
+                    "Registration is very busy right now. Please retry shortly.", 5);
+        }
+        return ticket;
+    }
+
+    public Optional<RegistrationTicket> find(String trackingId) {
+        return Optional.ofNullable(tickets.getIfPresent(trackingId));
+    }
+
+    // ════════════════════════════════════════════════════════
+    //  WORKERS
+    // ════════════════════════════════════════════════════════
+    // Keeps going after stop() until the queue is empty
+    private void drainLoop() {
+        List<RegistrationTicket> batch = new ArrayList<>(batchSize);
+        while (true) {
+            try {
+                RegistrationTicket first = queue.poll(running ? 1000 : 0, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    if (running) continue;
+                    return;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                batchTimer.record(() -> process(batch));
+            } catch (InterruptedException e) {
+                // Only stop() interrupts, once the drain has timed out
+                Thread.currentThread().interrupt();
+                abandon(batch);
+                return;
+            } catch (RuntimeException e) {
+                log.error("Registration worker failed on a batch of {}", batch.size(), e);
+                batch.forEach(t -> finish(t, RegistrationTicket.Status.FAILED, null, "GENERAL", e.getMessage()));
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void process(List<RegistrationTicket> batch) {
+        List<BulkRegistrationResult> results;
+        try {
+            results = memberService.registerMembers(batch.stream().map(RegistrationTicket::getMember).toList());
+        } catch (RuntimeException e) {
+            log.debug("Batch of {} failed as a whole ({}); retrying row by row", batch.size(), e.getMessage());
+            batch.forEach(this::processOne);
+            return;
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            BulkRegistrationResult r = results.get(i);
+            if (r.isSuccess()) {
+                finish(batch.get(i), RegistrationTicket.Status.REGISTERED, r.getMemberId(), null, registeredMessage(r.getStatus()));
+            } else {
+                finish(batch.get(i), RegistrationTicket.Status.REJECTED, null, r.getRule(), r.getMessage());
+            }
+        }
+    }
+
+    private void processOne(RegistrationTicket ticket) {
+        try {
+            ticket.getMember().setId(null); // may have been assigned by the rolled-back batch
+            Member saved = memberService.registerMember(ticket.getMember());
+            finish(ticket, RegistrationTicket.Status.REGISTERED, saved.getId(), null, registeredMessage(saved.getStatus()));
+        } catch (RegistrationException e) {
+            finish(ticket, RegistrationTicket.Status.REJECTED, null, e.getRule(), e.getMessage());
+        } catch (RuntimeException e) {
+            log.error("Async registration {} failed", ticket.getTrackingId(), e);
+            finish(ticket, RegistrationTicket.Status.FAILED, null, "GENERAL", "Registration could not be processed.");
+        }
+    }
+
+    private static String registeredMessage(MemberStatus status) {
+        return status == MemberStatus.WAITLISTED
+                ? "The club is full, so you have been added to the waitlist."
+                : "Registration submitted successfully! Your application is pending admin approval.";
+    }
+
+    private void finish(RegistrationTicket ticket, RegistrationTicket.Status status,
+                        Long memberId, String rule, String message) {
+        ticket.complete(status, memberId, rule, message);
+        drainLatency.record(System.nanoTime() - ticket.getEnqueuedNanos(), TimeUnit.NANOSECONDS);
+    }
+}
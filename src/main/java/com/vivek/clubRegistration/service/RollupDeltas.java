@@ -0,0 +1,100 @@
+package com.vivek.clubRegistration.service;
+
+import com.vivek.clubRegistration.event.MemberEvent;
+import com.vivek.clubRegistration.model.MemberStatus;
+import lombok.Value;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Period;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Rollup changes accumulated in memory and written as one row per key, so a transaction that
+ * touches thousands of members adds a handful of rollup rows. Not thread-safe; each
+ * transaction and each backfill has its own.
+ */
+final class RollupDeltas {
+
+    /** The daily event types {@link #addExisting} can rebuild from a stored row. */
+    static final Set<String> EXISTING_EVENTS = Set.of(
+            MemberEvent.Type.REGISTERED.name(), MemberEvent.Type.APPROVED.name());
+
+    private final int bucketYears;
+    final Map<DayKey, long[]> daily = new HashMap<>();     // [events, leadTimeSeconds]
+    final Map<MixKey, Long> mix = new HashMap<>();
+
+    RollupDeltas(int bucketYears) {
+        this.bucketYears = bucketYears;
+    }
+
+    boolean isEmpty() {
+        return daily.isEmpty() && mix.values().stream().allMatch(delta -> delta == 0);
+    }
+
+    /** Moves one member out of its previous status and into its new one. */
+    void add(MemberEvent event) {
+        LocalDateTime registeredAt = event.getMember().getRegisteredAt();
+        long leadTime = event.getType() == MemberEvent.Type.APPROVED && event.getApprovedAt() != null
+                ? Duration.between(registeredAt, event.getApprovedAt()).toSeconds()
+                : 0;
+        count(event.getOccurredAt().toLocalDate(), event.getMembershipType(), event.getType().name(), leadTime);
+
+        int bucket = ageBucket(event.getDateOfBirth(), registeredAt);
+        if (event.getPreviousStatus() != null) {
+            move(event.getMembershipType(), event.getPreviousStatus(), bucket, -1);
+        }
+        if (event.getNewStatus() != null) {
+            move(event.getMembershipType(), event.getNewStatus(), bucket, 1);
+        }
+    }
+
+    /**
+     * Rebuilds the history one stored row can tell: its registration and, if any, its approval.
+     * Only rows still in {@code members} count towards the current mix.
+     */
+    void addExisting(String membershipType, MemberStatus status, LocalDate dateOfBirth,
+                     LocalDateTime registeredAt, LocalDateTime approvedAt, boolean current) {
+        count(registeredAt.toLocalDate(), membershipType, MemberEvent.Type.REGISTERED.name(), 0);
+        if (approvedAt != null) {
+            count(approvedAt.toLocalDate(), membershipType, MemberEvent.Type.APPROVED.name(),
+                    Duration.between(registeredAt, approvedAt).toSeconds());
+        }
+        if (current) {
+            move(membershipType, status, ageBucket(dateOfBirth, registeredAt), 1);
+        }
+    }
+
+    private void count(LocalDate day, String membershipType, String eventType, long leadTimeSeconds) {
+        long[] totals = daily.computeIfAbsent(new DayKey(day, membershipType, eventType), k -> new long[2]);
+        totals[0]++;
+        totals[1] += leadTimeSeconds;
+    }
+
+    private void move(String membershipType, MemberStatus status, int bucket, long delta) {
+        mix.merge(new MixKey(membershipType, status, bucket), delta, Long::sum);
+    }
+
+    // Age at registration, so a member never changes bucket while the rollup holds them
+    private int ageBucket(LocalDate dateOfBirth, LocalDateTime registeredAt) {
+        int age = Math.max(0, Period.between(dateOfBirth, registeredAt.toLocalDate()).getYears());
+        return age / bucketYears * bucketYears;
+    }
+
+    @Value
+    static class DayKey {
+        LocalDate day;
+        String membershipType;
+        String eventType;
+    }
+
+    @Value
+    static class MixKey {
+        String membershipType;
+        MemberStatus status;
+        int ageBucket;
+    }
+}
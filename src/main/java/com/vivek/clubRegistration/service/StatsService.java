@@ -0,0 +1,144 @@
+package com.vivek.clubRegistration.service;
+
+import com.vivek.clubRegistration.event.MemberEvent;
+import com.vivek.clubRegistration.model.MemberStatus;
+import com.vivek.clubRegistration.repository.MemberRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory club statistics. Counters are loaded once, moved incrementally by committed
+ * {@link MemberEvent}s and periodically reconciled against the database, which also
+ * corrects changes made by other instances or outside the application.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StatsService {
+
+    private final MemberRepository memberRepository;
+    private final DataVersion dataVersion;
+
+    private final Map<MemberStatus, AtomicLong> byStatus = new EnumMap<>(MemberStatus.class);
+    private final Map<String, AtomicLong> approvedByType = new ConcurrentHashMap<>();
+
+    @Value("${club.max.members:100}")
+    private int maxMembers;
+
+    @PostConstruct
+    void init() {
+        for (MemberStatus status : MemberStatus.values()) {
+            byStatus.put(status, new AtomicLong());
+        }
+        resync();
+    }
+
+    // ════════════════════════════════════════════════════════
+    //  INCREMENTAL UPDATES
+    // ════════════════════════════════════════════════════════
+    @Order(0) // before the admin event stream reads the new counts
+    @TransactionalEventListener
+    public void onMemberEvent(MemberEvent event) {
+        if (event.getPreviousStatus() != null) {
+            byStatus.get(event.getPreviousStatus()).decrementAndGet();
+            if (event.getPreviousStatus() == MemberStatus.APPROVED) {
+                typeCounter(event.getMembershipType()).decrementAndGet();
+            }
+        }
+        if (event.getNewStatus() != null) {
+            byStatus.get(event.getNewStatus()).incrementAndGet();
+            if (event.getNewStatus() == MemberStatus.APPROVED) {
+                typeCounter(event.getMembershipType()).incrementAndGet();
+            }
+        }
+    }
+
+    // ════════════════════════════════════════════════════════
+    //  RECONCILE
+    // ════════════════════════════════════════════════════════
+    /**
+     * Reloads every counter from the database (two GROUP BY queries). Events that commit
+     * while this runs may be briefly miscounted; the next reconcile corrects them.
+     */
+    @Scheduled(fixedDelayString = "${club.stats.reconcile-interval:PT5M}",
+               initialDelayString = "${club.stats.reconcile-interval:PT5M}")
+    void scheduledResync() {
+        resync();
+    }
+
+    public synchronized Map<String, Object> resync() {
+        Map<MemberStatus, Long> statusCounts = new EnumMap<>(MemberStatus.class);
+        for (Object[] row : memberRepository.countGroupByStatus()) {
+            statusCounts.put((MemberStatus) row[0], (Long) row[1]);
+        }
+        Map<String, Long> typeCounts = new HashMap<>();
+        for (Object[] row : memberRepository.countApprovedByType()) {
+            typeCounts.put((String) row[0], (Long) row[1]);
+        }
+
+        boolean drifted = false;
+        for (MemberStatus status : MemberStatus.values()) {
+            long actual = statusCounts.getOrDefault(status, 0L);
+            long previous = byStatus.get(status).getAndSet(actual);
+            if (previous != actual) {
+                log.debug("Stats drift for {}: cached={} actual={}", status, previous, actual);
+                drifted = true;
+            }
+        }
+        drifted |= approvedByType.keySet().retainAll(typeCounts.keySet());
+        for (Map.Entry<String, Long> e : typeCounts.entrySet()) {
+            drifted |= typeCounter(e.getKey()).getAndSet(e.getValue()) != e.getValue();
+        }
+        if (drifted) {
+            // Corrections usually mean changes from outside this instance — cached copies are stale
+            dataVersion.bumpAll();
+        }
+        return getStats();
+    }
+
+    // ════════════════════════════════════════════════════════
+    //  READ
+    // ════════════════════════════════════════════════════════
+    public Map<String, Object> getStats() {
+        long approved = byStatus.get(MemberStatus.APPROVED).get();
+        long pending  = byStatus.get(MemberStatus.PENDING).get();
+        long rejected = byStatus.get(MemberStatus.REJECTED).get();
+        long waitlisted = byStatus.get(MemberStatus.WAITLISTED).get();
+
+        Map<String, Long> types = new HashMap<>();
+        approvedByType.forEach((type, count) -> types.put(type, count.get()));
+
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("total",          approved + pending + rejected + waitlisted);
+        stats.put("approved",       approved);
+        stats.put("pending",        pending);
+        stats.put("rejected",       rejected);
+        stats.put("waitlisted",     waitlisted);
+        stats.put("approvedByType", types);
+        stats.put("maxSlots",       maxMembers);
+        stats.put("slotsRemaining", Math.max(0, maxMembers - approved));
+        stats.put("capacityPct",    (int)((approved * 100.0) / maxMembers));
+        return stats;
+    }
+
+    public long count(MemberStatus status) {
+        return byStatus.get(status).get();
+    }
+
+    private AtomicLong typeCounter(String type) {
+        return approvedByType.computeIfAbsent(type, t -> new AtomicLong());
+    }
+}
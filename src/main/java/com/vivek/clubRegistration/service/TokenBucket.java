@@ -0,0 +1,44 @@
+package com.vivek.clubRegistration.service;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket in the GCRA form: the whole state is one "theoretical arrival
+ * time" updated with CAS, so there is no refill thread and no lock to contend on.
+ * A bucket holds {@code burst} tokens and refills one every {@code interval} nanoseconds.
+ */
+final class TokenBucket {
+
+    private final long intervalNanos;
+    private final long burstWindowNanos;
+    private final AtomicLong theoreticalArrival;
+
+    TokenBucket(long intervalNanos, int burst, long nowNanos) {
+        this.intervalNanos = intervalNanos;
+        this.burstWindowNanos = intervalNanos * burst;
+        this.theoreticalArrival = new AtomicLong(nowNanos);
+    }
+
+    static TokenBucket perMinute(int ratePerMinute, int burst, long nowNanos) {
+        return new TokenBucket(TimeUnit.MINUTES.toNanos(1) / Math.max(1, ratePerMinute), Math.max(1, burst), nowNanos);
+    }
+
+    /**
+     * Takes a token if one is available. Returns 0 on success, otherwise the nanoseconds
+     * until the next token frees up.
+     */
+    long tryAcquire(long nowNanos) {
+        while (true) {
+            long tat = theoreticalArrival.get();
+            long next = Math.max(tat, nowNanos) + intervalNanos;
+            long wait = next - nowNanos - burstWindowNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (theoreticalArrival.compareAndSet(tat, next)) {
+                return 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package com.vivek.clubRegistration.service;
+
+import com.vivek.clubRegistration.event.MemberEvent;
+import com.vivek.clubRegistration.model.Member;
+import com.vivek.clubRegistration.model.MemberStatus;
+import com.vivek.clubRegistration.model.MemberSummary;
+import com.vivek.clubRegistration.repository.MemberRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Priority queue of WAITLISTED applicants: membership tier first (PLATINUM, GOLD, SILVER by
+ * default), then {@code registeredAt}, then ID. Applicants who register while the club is
+ * full, or while others are already waiting, join the waitlist instead of being refused.
+ *
+ * <p>The database row is the source of truth; this is an in-memory mirror kept in a skip list,
+ * so the head is found in O(log n) without touching the table. It is loaded at startup, moved
+ * by committed {@link MemberEvent}s and reloaded on the stats reconcile interval, which also
+ * picks up changes made by other instances. A promotion locks the candidate row and drops
+ * entries that are no longer WAITLISTED, so a stale mirror costs a lookup, never a wrong
+ * promotion.
+ *
+ * <p>Promoted applicants become PENDING and still need admin approval. {@link MemberService}
+ * promotes one applicant per slot freed by a reject or delete. A periodic sweep also promotes
+ * applicants into slots that no APPROVED or PENDING member holds, e.g. when a promoted
+ * applicant is rejected or the limit is raised.
+ */
+@Slf4j
+@Service
+public class Waitlist {
+
+    private final MemberRepository memberRepository;
+    private final CapacityService capacityService;
+    private final StatsService statsService;
+    private final ApplicationEventPublisher events;
+    private final TransactionTemplate sweepTx;
+    private final Counter promotions;
+
+    private final Map<String, Integer> tierRanks = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListSet<Entry> queue = new ConcurrentSkipListSet<>(
+            Comparator.comparingInt(Entry::getTierRank)
+                    .thenComparing(Entry::getRegisteredAt)
+                    .thenComparing(Entry::getId));
+    private final Map<Long, Entry> byId = new ConcurrentHashMap<>();
+
+    @Value("${club.max.members:100}")
+    private int maxMembers;
+
+    public Waitlist(MemberRepository memberRepository,
+                    CapacityService capacityService,
+                    StatsService statsService,
+                    ApplicationEventPublisher events,
+                    PlatformTransactionManager transactionManager,
+                    MeterRegistry meterRegistry,
+                    @Value("${club.waitlist.tier-order:PLATINUM,GOLD,SILVER}") List<String> tierOrder) {
+        this.memberRepository = memberRepository;
+        this.capacityService = capacityService;
+        this.statsService = statsService;
+        this.events = events;
+        this.sweepTx = new TransactionTemplate(transactionManager);
+        for (int i = 0; i < tierOrder.size(); i++) {
+            tierRanks.put(tierOrder.get(i).trim().toUpperCase(), i);
+        }
+
+        promotions = Counter.builder("club.waitlist.promotions")
+                .description("Waitlisted applicants moved to PENDING").register(meterRegistry);
+        Gauge.builder("club.waitlist.size", queue, ConcurrentSkipListSet::size)
+                .description("Applicants currently on the waitlist").register(meterRegistry);
+    }
+
+    @PostConstruct
+    void init() {
+        reload();
+    }
+
+    // ════════════════════════════════════════════════════════
+    //  READ
+    // ════════════════════════════════════════════════════════
+    public boolean isEmpty() {
+        return queue.isEmpty();
+    }
+
+    public int size() {
+        return queue.size();
+    }
+
+    /**
+     * 1-based position of a waitlisted member, or empty when they are not waiting. Counting
+     * the entries ahead is O(position).
+     */
+    public Optional<Integer> position(Member member) {
+        if (member.getStatus() != MemberStatus.WAITLISTED) {
+            return Optional.empty();
+        }
+        // The row may have been waitlisted through another instance since the last reload
+        Entry entry = byId.computeIfAbsent(member.getId(),
+                id -> add(id, member.getMembershipType(), member.getRegisteredAt()));
+        return Optional.of(queue.headSet(entry).size() + 1);
+    }
+
+    // ════════════════════════════════════════════════════════
+    //  PROMOTE — joins the caller's transaction
+    // ════════════════════════════════════════════════════════
+    /**
+     * Moves up to {@code slots} applicants from the head of the waitlist to PENDING and returns
+     * how many were promoted. Each candidate row is locked and re-checked, so concurrent
+     * promotions never pick the same applicant; the mirror itself changes after commit.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public int promote(int slots) {
+        int promoted = 0;
+        // The skip list iterator is weakly consistent: entries added or removed meanwhile are fine
+        Iterator<Entry> candidates = queue.iterator();
+        while (promoted < slots && candidates.hasNext()) {
+            Entry candidate = candidates.next();
+            Optional<Member> row = memberRepository.findByIdForUpdate(candidate.getId());
+            if (row.isEmpty() || row.get().getStatus() != MemberStatus.WAITLISTED) {
+                // Changed outside this instance's events; drop it so it stops holding up the queue
+                if (byId.remove(candidate.getId(), candidate)) {
+                    queue.remove(candidate);
+                }
+                continue;
+            }
+            Member member = row.get();
+            member.setStatus(MemberStatus.PENDING);
+            events.publishEvent(MemberEvent.of(MemberEvent.Type.PROMOTED, member, MemberStatus.WAITLISTED));
+            log.info("Member ID {} promoted from the waitlist.", member.getId());
+            promoted++;
+        }
+        return promoted;
+    }
+
+    /** Fills slots that are neither approved nor awaiting review. */
+    @Scheduled(fixedDelayString = "${club.waitlist.promote-interval:PT30S}",
+               initialDelayString = "${club.waitlist.promote-interval:PT30S}")
+    void promoteIntoFreeSlots() {
+        if (queue.isEmpty()) {
+            return;
+        }
+        long unclaimed = maxMembers - capacityService.getUsed() - statsService.count(MemberStatus.PENDING);
+        if (unclaimed > 0) {
+            Integer promoted = sweepTx.execute(status -> promote((int) Math.min(unclaimed, Integer.MAX_VALUE)));
+            log.debug("Waitlist sweep promoted {} applicants", promoted);
+        }
+    }
+
+    // ════════════════════════════════════════════════════════
+    //  MIRROR MAINTENANCE
+    // ════════════════════════════════════════════════════════
+    @Order(0) // same as StatsService: positions are current before live views read them
+    @TransactionalEventListener
+    public void onMemberEvent(MemberEvent event) {
+        if (event.getNewStatus() == MemberStatus.WAITLISTED) {
+            byId.computeIfAbsent(event.getMemberId(),
+                    id -> add(id, event.getMembershipType(), event.getMember().getRegisteredAt()));
+        } else if (event.getPreviousStatus() == MemberStatus.WAITLISTED) {
+            Entry entry = byId.remove(event.getMemberId());
+            if (entry != null) {
+                queue.remove(entry);
+            }
+        }
+        if (event.getType() == MemberEvent.Type.PROMOTED) {
+            promotions.increment();
+        }
+    }
+
+    /**
+     * Replaces the mirror with the WAITLISTED rows in the database. Events that commit while
+     * this runs may be briefly missing; the next reload corrects them.
+     */
+    @Scheduled(fixedDelayString = "${club.stats.reconcile-interval:PT5M}",
+               initialDelayString = "${club.stats.reconcile-interval:PT5M}")
+    public synchronized void reload() {
+        List<MemberSummary> rows = memberRepository.findSummariesByStatus(MemberStatus.WAITLISTED);
+        queue.clear();
+        byId.clear();
+        for (MemberSummary m : rows) {
+            byId.put(m.getId(), add(m.getId(), m.getMembershipType(), m.getRegisteredAt()));
+        }
+        if (!rows.isEmpty()) {
+            log.info("Waitlist loaded: {} applicants", rows.size());
+        }
+    }
+
+    private Entry add(Long id, String membershipType, LocalDateTime registeredAt) {
+        Entry entry = new Entry(id, tierRanks.getOrDefault(membershipType, tierRanks.size()), registeredAt);
+        queue.add(entry);
+        return entry;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    static final class Entry {
+        private final Long id;
+        private final int tierRank;     // lower is served first; unknown tiers go last
+        private final LocalDateTime registeredAt;
+    }
+}
@@ -0,0 +1,48 @@
+package db.migration.postgresql;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * PostgreSQL-only indexes for the member search that JPA's {@code @Index} can't express:
+ * pattern-ops btrees for case-insensitive prefix matches on name and email, and trigram
+ * GIN indexes for substring matches. Built concurrently so an existing table stays writable,
+ * which is why this runs outside a transaction. The trigram indexes are skipped with a
+ * warning when the pg_trgm extension can't be created.
+ */
+public class V3__Member_search_indexes extends BaseJavaMigration {
+
+    private static final Logger log = LoggerFactory.getLogger(V3__Member_search_indexes.class);
+
+    @Override
+    public boolean canExecuteInTransaction() {
+        return false;
+    }
+
+    @Override
+    public void migrate(Context context) throws SQLException {
+        Connection connection = context.getConnection();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_member_full_name_prefix " +
+                    "ON members (lower(full_name) text_pattern_ops)");
+            statement.execute("CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_member_email_prefix " +
+                    "ON members (email text_pattern_ops)");
+            try {
+                statement.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+            } catch (SQLException e) {
+                log.warn("pg_trgm unavailable, substring search will scan: {}", e.getMessage());
+                return;
+            }
+            statement.execute("CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_member_full_name_trgm " +
+                    "ON members USING gin (lower(full_name) gin_trgm_ops)");
+            statement.execute("CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_member_email_trgm " +
+                    "ON members USING gin (email gin_trgm_ops)");
+        }
+    }
+}
@@ -0,0 +1,67 @@
+-- Full schema. Databases created by ddl-auto before migrations existed are baselined at
+-- version 0 and run this too: IF NOT EXISTS keeps their tables and data and adds whatever
+-- they are missing (member_id_seq, club_capacity, idempotency_keys, members_archive, indexes).
+-- Their IDENTITY id column is converted in the PostgreSQL V2.
+-- Portable SQL: runs on PostgreSQL and on H2 in PostgreSQL mode (tests, benchmarks).
+
+CREATE SEQUENCE IF NOT EXISTS member_id_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS members (
+    id              BIGINT       NOT NULL,
+    full_name       VARCHAR(100) NOT NULL,
+    email           VARCHAR(150) NOT NULL,
+    phone           VARCHAR(20)  NOT NULL,
+    date_of_birth   DATE         NOT NULL,
+    membership_type VARCHAR(20)  NOT NULL,
+    address         VARCHAR(255),
+    status          VARCHAR(20)  NOT NULL,
+    registered_at   TIMESTAMP(6) NOT NULL,
+    approved_at     TIMESTAMP(6),
+    admin_note      VARCHAR(500),
+    CONSTRAINT members_pkey PRIMARY KEY (id),
+    CONSTRAINT uk_member_email UNIQUE (email),
+    CONSTRAINT members_status_check CHECK (status IN ('PENDING', 'APPROVED', 'REJECTED'))
+);
+
+-- Keyset pagination: (registered_at DESC, id DESC), optionally filtered by status
+CREATE INDEX IF NOT EXISTS idx_member_registered_at_id ON members (registered_at, id);
+CREATE INDEX IF NOT EXISTS idx_member_status_registered_at_id ON members (status, registered_at, id);
+-- Search filters
+CREATE INDEX IF NOT EXISTS idx_member_type_status ON members (membership_type, status);
+CREATE INDEX IF NOT EXISTS idx_member_full_name ON members (full_name);
+
+CREATE TABLE IF NOT EXISTS club_capacity (
+    name VARCHAR(50) NOT NULL,
+    used BIGINT      NOT NULL,
+    CONSTRAINT club_capacity_pkey PRIMARY KEY (name)
+);
+
+CREATE TABLE IF NOT EXISTS idempotency_keys (
+    idempotency_key VARCHAR(255)  NOT NULL,
+    fingerprint     VARCHAR(150)  NOT NULL,
+    response_body   VARCHAR(8000) NOT NULL,
+    created_at      TIMESTAMP(6)  NOT NULL,
+    CONSTRAINT idempotency_keys_pkey PRIMARY KEY (idempotency_key)
+);
+
+CREATE INDEX IF NOT EXISTS idx_idempotency_created_at ON idempotency_keys (created_at);
+
+CREATE TABLE IF NOT EXISTS members_archive (
+    id              BIGINT       NOT NULL,
+    full_name       VARCHAR(100) NOT NULL,
+    email           VARCHAR(150) NOT NULL,
+    phone           VARCHAR(20)  NOT NULL,
+    date_of_birth   DATE         NOT NULL,
+    membership_type VARCHAR(20)  NOT NULL,
+    address         VARCHAR(255),
+    status          VARCHAR(20)  NOT NULL,
+    registered_at   TIMESTAMP(6) NOT NULL,
+    approved_at     TIMESTAMP(6),
+    admin_note      VARCHAR(500),
+    archived_at     TIMESTAMP(6) NOT NULL,
+    CONSTRAINT members_archive_pkey PRIMARY KEY (id),
+    CONSTRAINT members_archive_status_check CHECK (status IN ('PENDING', 'APPROVED', 'REJECTED'))
+);
+
+CREATE INDEX IF NOT EXISTS idx_members_archive_email ON members_archive (email);
+CREATE INDEX IF NOT EXISTS idx_members_archive_archived_at ON members_archive (archived_at);
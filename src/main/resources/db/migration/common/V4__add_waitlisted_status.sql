@@ -0,0 +1,10 @@
+-- WAITLISTED applicants: registered while the club was full, promoted to PENDING when a slot frees.
+-- IF EXISTS: a database created by ddl-auto before migrations existed may not have these constraints.
+
+ALTER TABLE members DROP CONSTRAINT IF EXISTS members_status_check;
+ALTER TABLE members ADD CONSTRAINT members_status_check
+    CHECK (status IN ('PENDING', 'APPROVED', 'REJECTED', 'WAITLISTED'));
+
+ALTER TABLE members_archive DROP CONSTRAINT IF EXISTS members_archive_status_check;
+ALTER TABLE members_archive ADD CONSTRAINT members_archive_status_check
+    CHECK (status IN ('PENDING', 'APPROVED', 'REJECTED', 'WAITLISTED'));
@@ -0,0 +1,11 @@
+-- Transactional outbox for member lifecycle events; rows are deleted once the relay has delivered them.
+-- The identity key is assigned at insert, so a member's later events (written under its row lock) sort after earlier ones.
+
+CREATE TABLE member_outbox (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    member_id   BIGINT        NOT NULL,
+    event_type  VARCHAR(20)   NOT NULL,
+    payload     VARCHAR(4000) NOT NULL,
+    created_at  TIMESTAMP(6)  NOT NULL,
+    CONSTRAINT member_outbox_pkey PRIMARY KEY (id)
+);
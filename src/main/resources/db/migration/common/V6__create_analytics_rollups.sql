@@ -0,0 +1,23 @@
+-- Analytics rollups. Writers append delta rows and readers SUM them per key; AnalyticsService
+-- periodically folds each key back into one row, so both tables stay small.
+
+CREATE TABLE member_daily_rollup (
+    id                BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    rollup_day        DATE        NOT NULL,
+    membership_type   VARCHAR(20) NOT NULL,
+    event_type        VARCHAR(20) NOT NULL,
+    events            BIGINT      NOT NULL,
+    lead_time_seconds BIGINT      NOT NULL,
+    CONSTRAINT member_daily_rollup_pkey PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_daily_rollup_day ON member_daily_rollup (rollup_day);
+
+CREATE TABLE member_mix_rollup (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    membership_type VARCHAR(20) NOT NULL,
+    status          VARCHAR(20) NOT NULL,
+    age_bucket      INTEGER     NOT NULL,
+    members         BIGINT      NOT NULL,
+    CONSTRAINT member_mix_rollup_pkey PRIMARY KEY (id)
+);
@@ -0,0 +1,12 @@
+-- Versions behind the ETags of the read endpoints, shared by every instance: each status row moves
+-- when a member enters or leaves that status; the global tag is their sum.
+-- Bumped inside the writing transaction, so a version is never visible before its data.
+
+CREATE TABLE data_version (
+    scope   VARCHAR(20) NOT NULL,
+    version BIGINT      NOT NULL,
+    CONSTRAINT data_version_pkey PRIMARY KEY (scope)
+);
+
+INSERT INTO data_version (scope, version) VALUES
+    ('PENDING', 0), ('APPROVED', 0), ('REJECTED', 0), ('WAITLISTED', 0);
@@ -0,0 +1,9 @@
+-- Member ids used to come from an IDENTITY column; they now come from the pooled
+-- member_id_seq so inserts can be JDBC-batched. On databases created before the switch the
+-- column still has its identity and the sequence starts at 1: drop the identity and move the
+-- sequence past the highest existing id. A no-op everywhere else.
+ALTER TABLE members ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+SELECT setval('member_id_seq', GREATEST(
+        (SELECT COALESCE(MAX(id), 0) FROM members),
+        (SELECT last_value FROM member_id_seq)));
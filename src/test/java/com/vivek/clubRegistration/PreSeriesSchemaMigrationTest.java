@@ -0,0 +1,77 @@
+package com.vivek.clubRegistration;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * A database created by {@code ddl-auto=update} before migrations existed: only {@code members},
+ * with an IDENTITY id and a row in it. Starting the application must baseline it, add the
+ * missing objects and pass {@code ddl-auto=validate}.
+ */
+@SpringBootTest(properties = "spring.datasource.url=" + PreSeriesSchemaMigrationTest.URL)
+class PreSeriesSchemaMigrationTest {
+
+    static final String URL = "jdbc:h2:mem:pre-series;DB_CLOSE_DELAY=-1;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE";
+
+    @Autowired JdbcTemplate jdbcTemplate;
+
+    // Runs before the Spring context, so Flyway sees the old schema on startup
+    @BeforeAll
+    static void createPreSeriesSchema() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(URL, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute("""
+                    CREATE TABLE members (
+                        id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+                        address VARCHAR(255),
+                        admin_note VARCHAR(500),
+                        approved_at TIMESTAMP(6),
+                        date_of_birth DATE NOT NULL,
+                        email VARCHAR(150) NOT NULL,
+                        full_name VARCHAR(100) NOT NULL,
+                        membership_type VARCHAR(20) NOT NULL,
+                        phone VARCHAR(20) NOT NULL,
+                        registered_at TIMESTAMP(6) NOT NULL,
+                        status VARCHAR(20) NOT NULL,
+                        PRIMARY KEY (id),
+                        CONSTRAINT uk_member_email UNIQUE (email),
+                        CONSTRAINT members_status_check CHECK (status IN ('PENDING', 'APPROVED', 'REJECTED'))
+                    )""");
+            statement.execute("""
+                    INSERT INTO members (date_of_birth, email, full_name, membership_type, phone, registered_at, status)
+                    VALUES (DATE '1990-01-01', 'old@example.com', 'Old Member', 'GOLD', '9876543210',
+                            TIMESTAMP '2024-01-01 10:00:00', 'APPROVED')""");
+        }
+    }
+
+    @Test
+    void preSeriesDatabaseIsUpgradedInPlace() {
+        List<String> applied = jdbcTemplate.queryForList(
+                "SELECT \"version\" FROM \"flyway_schema_history\" WHERE \"success\" AND \"version\" IS NOT NULL ORDER BY \"installed_rank\"", String.class);
+        // Baselined below V1, so V1 ran; the later migrations follow
+        assertEquals(List.of("0", "1"), applied.subList(0, 2));
+
+        for (String table : List.of("club_capacity", "idempotency_keys", "members_archive", "member_outbox",
+                "member_daily_rollup", "member_mix_rollup")) {
+            assertEquals(1, jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM information_schema.tables WHERE table_name = ?", Integer.class, table), table);
+        }
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.sequences WHERE sequence_name = 'member_id_seq'", Integer.class));
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.indexes WHERE index_name = 'idx_member_status_registered_at_id'",
+                Integer.class));
+        assertEquals("old@example.com", jdbcTemplate.queryForObject("SELECT email FROM members", String.class));
+    }
+}
@@ -0,0 +1,324 @@
+package com.vivek.clubRegistration;
+
+import com.vivek.clubRegistration.model.MemberStatus;
+import com.vivek.clubRegistration.service.CapacityService;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * End-to-end load and correctness run over real HTTP. Thousands of virtual-thread clients go
+ * through the JSON API and the web forms against an embedded H2 database:
+ * <ol>
+ *   <li>a registration burst, with some emails sent by several clients at once in different
+ *       letter cases, while admins read the listings and stats;</li>
+ *   <li>approvals of every pending applicant, each twice (API and form) and many more than
+ *       {@code club.max.members}, while the reads continue.</li>
+ * </ol>
+ * It logs p50/p99/p999 latency and throughput per endpoint, then checks what must hold
+ * whatever the interleaving: no capacity overshoot, one member per email, stats that match
+ * the table, and no 5xx. Admission control is off, so every request reaches the service.
+ *
+ * <p>Tagged {@code load} and excluded from the default build; run it with
+ * {@code ./mvnw -Pload-test test}. Sizes can be changed with {@code -Dload.registrations=...},
+ * {@code -Dload.duplicates}, {@code -Dload.max-members}, {@code -Dload.clients} (concurrent
+ * writers) and {@code -Dload.readers}.
+ */
+@Slf4j
+@Tag("load")
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.datasource.url=jdbc:h2:mem:load;DB_CLOSE_DELAY=-1;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;LOCK_TIMEOUT=10000",
+                "club.admission.enabled=false",
+                "club.max.members=${load.max-members:500}",
+                "club.bulk.max-size=100000",
+                "server.tomcat.accept-count=10000",
+                "logging.level.com.vivek.clubRegistration=WARN",
+                "logging.level.com.vivek.clubRegistration.RegistrationLoadTest=INFO"
+        })
+class RegistrationLoadTest {
+
+    private static final int REGISTRATIONS = Integer.getInteger("load.registrations", 4000);
+    private static final int DUPLICATES = Integer.getInteger("load.duplicates", 250);
+    private static final int COPIES_PER_DUPLICATE = 4;
+    private static final int CLIENTS = Integer.getInteger("load.clients", 1000);
+    private static final int READERS = Integer.getInteger("load.readers", 32);
+    private static final Duration TIMEOUT = Duration.ofMinutes(5);
+
+    @LocalServerPort int port;
+    @Autowired JdbcTemplate jdbcTemplate;
+    @Autowired CapacityService capacityService;
+    @Autowired JsonMapper jsonMapper;
+
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+    private HttpClient client;
+
+    @Test
+    void mixedWorkloadKeepsInvariants() throws Exception {
+        int maxMembers = Integer.getInteger("load.max-members", 500);
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            client = HttpClient.newBuilder()
+                    .executor(clients)
+                    .followRedirects(HttpClient.Redirect.NEVER)
+                    .connectTimeout(Duration.ofSeconds(30))
+                    .build();
+
+            // Phase 1: registration burst, duplicate retries and admin reads
+            AtomicInteger accepted = new AtomicInteger();
+            Map<String, AtomicInteger> duplicateWins = new ConcurrentHashMap<>();
+            List<Runnable> registrations = new ArrayList<>();
+            for (int i = 0; i < REGISTRATIONS; i++) {
+                String email = "load" + i + "@example.com";
+                boolean viaForm = i % 4 == 0;
+                registrations.add(() -> {
+                    if (register(email, viaForm)) {
+                        accepted.incrementAndGet();
+                    }
+                });
+            }
+            for (int i = 0; i < DUPLICATES; i++) {
+                String email = "dup" + i + "@example.com";
+                duplicateWins.put(email, new AtomicInteger());
+                for (int copy = 0; copy < COPIES_PER_DUPLICATE; copy++) {
+                    String variant = copy % 2 == 0 ? email : email.toUpperCase();
+                    boolean viaForm = copy == COPIES_PER_DUPLICATE - 1;
+                    registrations.add(() -> {
+                        if (register(variant, viaForm)) {
+                            accepted.incrementAndGet();
+                            duplicateWins.get(email).incrementAndGet();
+                        }
+                    });
+                }
+            }
+            Collections.shuffle(registrations);
+            runWithReaders(clients, registrations);
+
+            // Phase 2: approve every pending applicant twice, from the API and the admin form
+            List<Long> pending = jdbcTemplate.queryForList(
+                    "SELECT id FROM members WHERE status = 'PENDING'", Long.class);
+            assertTrue(pending.size() > maxMembers, "Not enough applicants to reach the member limit");
+            AtomicInteger apiApprovals = new AtomicInteger();
+            List<Runnable> approvals = new ArrayList<>();
+            for (Long id : pending) {
+                approvals.add(() -> {
+                    if (send("POST /api/admin/approve/{id}", post("/api/admin/approve/" + id)) == 200) {
+                        apiApprovals.incrementAndGet();
+                    }
+                });
+                approvals.add(() -> send("POST /admin/approve/{id} (form)", postForm("/admin/approve/" + id, "")));
+            }
+            Collections.shuffle(approvals);
+            runWithReaders(clients, approvals);
+
+            report();
+
+            // Invariants
+            long members = count("SELECT COUNT(*) FROM members");
+            long approved = count("SELECT COUNT(*) FROM members WHERE status = 'APPROVED'");
+            assertEquals(accepted.get(), members, "Accepted registrations vs stored members");
+            assertEquals(0, count("SELECT COUNT(*) FROM (SELECT LOWER(email) FROM members "
+                    + "GROUP BY LOWER(email) HAVING COUNT(*) > 1) d"), "Duplicate emails stored");
+            duplicateWins.forEach((email, wins) -> assertEquals(1, wins.get(), "Accepted copies of " + email));
+
+            assertEquals(maxMembers, approved, "Approved members vs club.max.members");
+            assertTrue(apiApprovals.get() <= maxMembers, "API approvals beyond club.max.members");
+            assertEquals(approved, capacityService.getUsed(), "Capacity counter vs approved rows");
+            assertEquals(approved, count("SELECT used FROM club_capacity"), "Stored capacity vs approved rows");
+
+            String body = client.send(get("/api/stats").build(), HttpResponse.BodyHandlers.ofString()).body();
+            JsonNode stats = jsonMapper.readTree(body).get("data");
+            for (MemberStatus status : List.of(MemberStatus.APPROVED, MemberStatus.PENDING,
+                    MemberStatus.REJECTED, MemberStatus.WAITLISTED)) {
+                assertEquals(count("SELECT COUNT(*) FROM members WHERE status = '" + status + "'"),
+                        stats.get(status.name().toLowerCase()).asLong(), "Stats for " + status);
+            }
+            assertEquals(members, stats.get("total").asLong(), "Stats total");
+
+            endpoints.forEach((name, endpoint) ->
+                    assertEquals(0, endpoint.serverErrors.get(), "5xx responses from " + name));
+        }
+    }
+
+    // ════════════════════════════════════════════════════════
+    //  WORKLOAD
+    // ════════════════════════════════════════════════════════
+    /** Runs {@code writes} on {@code CLIENTS} virtual threads, with admin readers polling until they finish. */
+    private void runWithReaders(ExecutorService clients, List<Runnable> writes) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean writing = new AtomicBoolean(true);
+        List<Future<?>> readers = new ArrayList<>();
+        for (int r = 0; r < READERS; r++) {
+            int reader = r;
+            readers.add(clients.submit(() -> {
+                start.await();
+                while (writing.get()) {
+                    switch (reader % 4) {
+                        case 0 -> send("GET /api/members", get("/api/members?limit=50"));
+                        case 1 -> send("GET /api/members/pending", get("/api/members/pending?limit=50"));
+                        case 2 -> send("GET /api/stats", get("/api/stats"));
+                        default -> send("GET /admin (form)", get("/admin"));
+                    }
+                }
+                return null;
+            }));
+        }
+        ConcurrentLinkedQueue<Runnable> queue = new ConcurrentLinkedQueue<>(writes);
+        List<Future<?>> writers = new ArrayList<>(CLIENTS);
+        for (int w = 0; w < CLIENTS; w++) {
+            writers.add(clients.submit(() -> {
+                start.await();
+                for (Runnable write = queue.poll(); write != null; write = queue.poll()) {
+                    write.run();
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        try {
+            for (Future<?> writer : writers) {
+                writer.get(TIMEOUT.toSeconds(), TimeUnit.SECONDS);
+            }
+        } finally {
+            writing.set(false);
+        }
+        for (Future<?> reader : readers) {
+            reader.get(TIMEOUT.toSeconds(), TimeUnit.SECONDS);
+        }
+    }
+
+    /** Returns whether the registration was accepted. */
+    private boolean register(String email, boolean viaForm) {
+        String name = "Load Member";
+        String dateOfBirth = "1990-05-17";
+        if (viaForm) {
+            String form = "fullName=" + encode(name) + "&email=" + encode(email) + "&phone=9876543210"
+                    + "&dateOfBirth=" + dateOfBirth + "&membershipType=GOLD";
+            // Accepted registrations redirect to /success; refused ones re-render the form
+            return send("POST /register (form)", postForm("/register", form)) == 302;
+        }
+        String json = "{\"fullName\":\"" + name + "\",\"email\":\"" + email + "\",\"phone\":\"9876543210\","
+                + "\"dateOfBirth\":\"" + dateOfBirth + "\",\"membershipType\":\"GOLD\"}";
+        return send("POST /api/register", HttpRequest.newBuilder(uri("/api/register"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))) == 201;
+    }
+
+    // ════════════════════════════════════════════════════════
+    //  HTTP + MEASUREMENT
+    // ════════════════════════════════════════════════════════
+    private int send(String endpoint, HttpRequest.Builder request) {
+        Endpoint stats = endpoints.computeIfAbsent(endpoint, e -> new Endpoint());
+        long started = System.nanoTime();
+        try {
+            int status = client.send(request.timeout(TIMEOUT).build(), HttpResponse.BodyHandlers.discarding())
+                    .statusCode();
+            stats.record(started, System.nanoTime(), status);
+            return status;
+        } catch (IOException e) {
+            stats.record(started, System.nanoTime(), 599);
+            return 599;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private HttpRequest.Builder get(String path) {
+        return HttpRequest.newBuilder(uri(path)).GET();
+    }
+
+    private HttpRequest.Builder post(String path) {
+        return HttpRequest.newBuilder(uri(path)).POST(HttpRequest.BodyPublishers.noBody());
+    }
+
+    private HttpRequest.Builder postForm(String path, String form) {
+        return HttpRequest.newBuilder(uri(path))
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(form));
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    private long count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Long.class);
+    }
+
+    private void report() {
+        StringBuilder out = new StringBuilder(String.format("%n%-34s %8s %9s %9s %9s %9s %10s  %s%n",
+                "endpoint", "requests", "p50 ms", "p99 ms", "p999 ms", "max ms", "req/s", "statuses"));
+        new TreeMap<>(endpoints).forEach((name, endpoint) -> {
+            long[] latencies = endpoint.latencies.stream().mapToLong(Long::longValue).toArray();
+            Arrays.sort(latencies);
+            double seconds = (endpoint.lastEnd.get() - endpoint.firstStart.get()) / 1e9;
+            out.append(String.format("%-34s %8d %9.2f %9.2f %9.2f %9.2f %10.0f  %s%n", name, latencies.length,
+                    percentile(latencies, 0.50), percentile(latencies, 0.99), percentile(latencies, 0.999),
+                    latencies[latencies.length - 1] / 1e6, latencies.length / Math.max(seconds, 1e-3),
+                    new TreeMap<>(endpoint.statuses)));
+        });
+        log.info("Load test results:{}", out);
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(p * sorted.length) - 1)] / 1e6;
+    }
+
+    /** Latencies and status codes of one endpoint; throughput spans its first start to last end. */
+    private static final class Endpoint {
+        final ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+        final Map<Integer, AtomicInteger> statuses = new ConcurrentHashMap<>();
+        final AtomicInteger serverErrors = new AtomicInteger();
+        final AtomicLong firstStart = new AtomicLong(Long.MAX_VALUE);
+        final AtomicLong lastEnd = new AtomicLong();
+
+        void record(long started, long ended, int status) {
+            latencies.add(ended - started);
+            statuses.computeIfAbsent(status, s -> new AtomicInteger()).incrementAndGet();
+            if (status >= 500) {
+                serverErrors.incrementAndGet();
+            }
+            firstStart.accumulateAndGet(started, Math::min);
+            lastEnd.accumulateAndGet(ended, Math::max);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.vivek.clubRegistration;
+
+import com.vivek.clubRegistration.model.Member;
+
+import java.time.LocalDate;
+
+/**
+ * A valid adult GOLD applicant for tests and benchmarks; tests override only the fields
+ * they are about.
+ */
+public final class TestMembers {
+
+    private TestMembers() {
+    }
+
+    public static Member applicant(String email) {
+        return applicantBuilder(email).build();
+    }
+
+    public static Member.MemberBuilder applicantBuilder(String email) {
+        return Member.builder()
+                .fullName("Test Applicant")
+                .email(email)
+                .phone("9876543210")
+                .dateOfBirth(LocalDate.of(1990, 1, 1))
+                .membershipType("GOLD");
+    }
+}
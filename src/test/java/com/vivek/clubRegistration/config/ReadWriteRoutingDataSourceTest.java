@@ -0,0 +1,138 @@
+package com.vivek.clubRegistration.config;
+
+import org.h2.jdbcx.JdbcDataSource;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ReadWriteRoutingDataSourceTest {
+
+    private final DataSource primary = database("primary");
+    private final DataSource replica = database("replica");
+
+    @Test
+    void readOnlyTransactionsUseTheReplica() {
+        Routing routing = new Routing(Duration.ZERO);
+
+        assertEquals("replica", routing.read(true));
+        assertEquals("primary", routing.read(false));
+        assertEquals("primary", routing.jdbc.queryForObject("SELECT name FROM node", String.class));
+    }
+
+    @Test
+    void writesGoToThePrimary() {
+        Routing routing = new Routing(Duration.ZERO);
+
+        routing.write();
+
+        assertEquals(1, new JdbcTemplate(primary).queryForObject("SELECT COUNT(*) FROM writes", Integer.class));
+        assertEquals(0, new JdbcTemplate(replica).queryForObject("SELECT COUNT(*) FROM writes", Integer.class));
+    }
+
+    @Test
+    void readsStickToThePrimaryRightAfterTheClientsOwnWrite() {
+        Routing routing = new Routing(Duration.ofMinutes(1));
+        MockHttpServletResponse response = inRequest(new MockHttpServletRequest(), () -> {
+            assertEquals("replica", routing.read(true));
+            routing.write();
+            assertEquals("primary", routing.read(true));
+        });
+
+        // The writer's next request, possibly to another instance, carries the cookie
+        Cookie lastWrite = response.getCookie(ReadWriteRoutingDataSource.LAST_WRITE_COOKIE);
+        MockHttpServletRequest next = new MockHttpServletRequest();
+        next.setCookies(lastWrite);
+        inRequest(next, () -> assertEquals("primary", routing.read(true)));
+
+        // Everyone else, and work outside a request, still reads from the replica
+        inRequest(new MockHttpServletRequest(), () -> assertEquals("replica", routing.read(true)));
+        assertEquals("replica", routing.read(true));
+    }
+
+    @Test
+    void staleWriteCookiesDoNotPinReads() {
+        Routing routing = new Routing(Duration.ofSeconds(2));
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie(ReadWriteRoutingDataSource.LAST_WRITE_COOKIE,
+                Long.toString(System.currentTimeMillis() - 5_000)));
+
+        inRequest(request, () -> assertEquals("replica", routing.read(true)));
+    }
+
+    @Test
+    void rolledBackWritesDoNotPinReads() {
+        Routing routing = new Routing(Duration.ofMinutes(1));
+
+        MockHttpServletResponse response = inRequest(new MockHttpServletRequest(), () -> {
+            assertThrows(IllegalStateException.class, () -> routing.tx(false).executeWithoutResult(status -> {
+                routing.jdbc.update("INSERT INTO writes VALUES (1)");
+                throw new IllegalStateException("rollback");
+            }));
+            assertEquals("replica", routing.read(true));
+        });
+        assertNull(response.getCookie(ReadWriteRoutingDataSource.LAST_WRITE_COOKIE));
+    }
+
+    private static MockHttpServletResponse inRequest(MockHttpServletRequest request, Runnable work) {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, response));
+        try {
+            work.run();
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+        return response;
+    }
+
+    private static DataSource database(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:routing-" + name + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(20))");
+        jdbc.execute("CREATE TABLE IF NOT EXISTS writes (id INT)");
+        jdbc.execute("DELETE FROM node");
+        jdbc.execute("DELETE FROM writes");
+        jdbc.update("INSERT INTO node VALUES (?)", name);
+        return dataSource;
+    }
+
+    private class Routing {
+        final DataSourceTransactionManager transactionManager;
+        final JdbcTemplate jdbc;
+
+        Routing(Duration readAfterWrite) {
+            DataSource routed = new LazyConnectionDataSourceProxy(
+                    new ReadWriteRoutingDataSource(primary, replica, readAfterWrite));
+            transactionManager = new DataSourceTransactionManager(routed);
+            jdbc = new JdbcTemplate(routed);
+        }
+
+        TransactionTemplate tx(boolean readOnly) {
+            TransactionTemplate template = new TransactionTemplate(transactionManager);
+            template.setReadOnly(readOnly);
+            return template;
+        }
+
+        String read(boolean readOnly) {
+            return tx(readOnly).execute(status -> jdbc.queryForObject("SELECT name FROM node", String.class));
+        }
+
+        void write() {
+            tx(false).executeWithoutResult(status -> jdbc.update("INSERT INTO writes VALUES (1)"));
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.vivek.clubRegistration.contoller;
+
+import com.vivek.clubRegistration.model.Member;
+import com.vivek.clubRegistration.repository.MemberRepository;
+import com.vivek.clubRegistration.service.AdminEventBroadcaster;
+import com.vivek.clubRegistration.service.MemberService;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import static com.vivek.clubRegistration.TestMembers.applicant;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class AdminEventsTest {
+
+    @Autowired MockMvc mockMvc;
+    @Autowired AdminEventBroadcaster broadcaster;
+    @Autowired MemberService memberService;
+    @Autowired MemberRepository memberRepository;
+
+    private final List<Long> created = new ArrayList<>();
+    private final List<MvcResult> streams = new ArrayList<>();
+
+    @AfterEach
+    void cleanUp() throws Exception {
+        for (MvcResult stream : streams) {
+            if (stream.getRequest().isAsyncStarted()) {
+                ((MockAsyncContext) stream.getRequest().getAsyncContext()).complete();
+            }
+        }
+        memberRepository.deleteAllById(created);
+    }
+
+    @Test
+    void committedChangesReachEveryDashboard() throws Exception {
+        int before = broadcaster.subscriberCount();
+        MvcResult first = connect();
+        MvcResult second = connect();
+        assertEquals(before + 2, broadcaster.subscriberCount());
+
+        Member member = register("sse-fanout@example.com");
+
+        awaitTrue(() -> body(first).contains("sse-fanout@example.com")
+                && body(second).contains("sse-fanout@example.com"));
+        for (MvcResult stream : List.of(first, second)) {
+            assertTrue(body(stream).contains("event:member\n"));
+            assertTrue(body(stream).contains("\"memberId\":" + member.getId()));
+            assertTrue(body(stream).contains("\"newStatus\":\"PENDING\""));
+        }
+    }
+
+    @Test
+    void disconnectedDashboardsAreDropped() throws Exception {
+        int before = broadcaster.subscriberCount();
+        MvcResult gone = connect();
+        MvcResult open = connect();
+
+        // What the container reports when the client closes the connection
+        MockAsyncContext context = (MockAsyncContext) gone.getRequest().getAsyncContext();
+        for (AsyncListener listener : context.getListeners()) {
+            listener.onError(new AsyncEvent(context, new IOException("Broken pipe")));
+        }
+        awaitTrue(() -> broadcaster.subscriberCount() == before + 1);
+
+        register("sse-after-disconnect@example.com");
+
+        awaitTrue(() -> body(open).contains("sse-after-disconnect@example.com"));
+        assertFalse(body(gone).contains("sse-after-disconnect@example.com"));
+    }
+
+    private MvcResult connect() throws Exception {
+        MvcResult result = mockMvc.perform(get("/admin/events"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        streams.add(result);
+        awaitTrue(() -> body(result).contains(":connected"));
+        return result;
+    }
+
+    private Member register(String email) {
+        Member member = memberService.registerMember(applicant(email));
+        created.add(member.getId());
+        return member;
+    }
+
+    private static String body(MvcResult result) {
+        try {
+            return result.getResponse().getContentAsString();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // Each dashboard is written by its own virtual thread
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "Timed out waiting for the dashboards");
+            Thread.sleep(20);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.vivek.clubRegistration.contoller;
+
+import com.vivek.clubRegistration.exception.RateLimitException;
+import com.vivek.clubRegistration.service.AdmissionControl;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.flash;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class ErrorResponseTest {
+
+    @Autowired MockMvc mockMvc;
+    @Autowired AdmissionControl admissionControl;
+
+    @Test
+    void malformedClientInputIsABadRequestWithItsReason() throws Exception {
+        mockMvc.perform(get("/api/members").param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false))
+                .andExpect(jsonPath("$.message").value("Invalid cursor: not-a-cursor"));
+        mockMvc.perform(get("/api/members").param("limit", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void rateLimitedFormPostsGoBackToTheFormWithTheReason() throws Exception {
+        String address = "203.0.113.15";
+        exhaust(address);
+
+        mockMvc.perform(post("/register")
+                        .with(request -> {
+                            request.setRemoteAddr(address);
+                            return request;
+                        })
+                        .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                        .param("fullName", "Form Applicant")
+                        .param("email", "form-limited@example.com"))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrl("/register"))
+                .andExpect(flash().attribute("errorRule", "RATE_LIMITED"));
+
+        // The API keeps its JSON 429
+        mockMvc.perform(post("/api/register")
+                        .with(request -> {
+                            request.setRemoteAddr(address);
+                            return request;
+                        })
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{}"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(jsonPath("$.success").value(false));
+    }
+
+    private void exhaust(String address) {
+        try {
+            while (true) {
+                admissionControl.admitClient(address);
+            }
+        } catch (RateLimitException expected) {
+            // The bucket is empty
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.vivek.clubRegistration.contoller;
+
+import com.vivek.clubRegistration.model.Member;
+import com.vivek.clubRegistration.repository.MemberRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static com.vivek.clubRegistration.TestMembers.applicantBuilder;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Other test classes share the database; the listing here is limited to this class's day
+@SpringBootTest
+@AutoConfigureMockMvc
+class FieldSelectionTest {
+
+    private static final String DAY = "2099-07-01";
+
+    @Autowired MockMvc mockMvc;
+    @Autowired MemberRepository memberRepository;
+    @Autowired JsonMapper jsonMapper;
+    @Autowired CBORMapper cborMapper;
+
+    private final List<Member> saved = new ArrayList<>();
+
+    @BeforeEach
+    void seedMembers() {
+        for (int i = 0; i < 2; i++) {
+            saved.add(memberRepository.save(applicantBuilder("fields-" + i + "@example.com")
+                    .registeredAt(LocalDateTime.parse(DAY + "T12:00:0" + i))
+                    .build()));
+        }
+    }
+
+    @AfterEach
+    void cleanUp() {
+        memberRepository.deleteAllInBatch(saved);
+        saved.clear();
+    }
+
+    @Test
+    void fieldsNarrowTheMembersInJsonAndCbor() throws Exception {
+        Member member = saved.get(0);
+        for (MediaType type : List.of(MediaType.APPLICATION_JSON, MediaType.APPLICATION_CBOR)) {
+            JsonNode single = body(get("/api/members/{id}", member.getId()).param("fields", "email, status"), type);
+            assertEquals(Set.of("success", "message", "data"), names(single));
+            assertEquals(Set.of("email", "status"), names(single.get("data")));
+            assertEquals(member.getEmail(), single.get("data").get("email").asString());
+
+            JsonNode page = body(get("/api/members/search")
+                    .param("from", DAY).param("to", DAY).param("limit", "1").param("fields", "id,email"), type);
+            assertEquals(Set.of("success", "message", "data", "nextCursor"), names(page));
+            assertEquals(1, page.get("data").size());
+            assertEquals(Set.of("id", "email"), names(page.get("data").get(0)));
+            assertEquals(saved.get(1).getId(), page.get("data").get(0).get("id").asLong());
+        }
+    }
+
+    @Test
+    void membersAreSerializedInFullWithoutFields() throws Exception {
+        for (MediaType type : List.of(MediaType.APPLICATION_JSON, MediaType.APPLICATION_CBOR)) {
+            JsonNode single = body(get("/api/members/{id}", saved.get(0).getId()), type);
+            assertTrue(names(single.get("data")).containsAll(
+                    Set.of("id", "fullName", "email", "phone", "dateOfBirth", "membershipType", "status")));
+        }
+    }
+
+    private JsonNode body(MockHttpServletRequestBuilder request, MediaType type) throws Exception {
+        byte[] body = mockMvc.perform(request.accept(type))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(type))
+                .andReturn().getResponse().getContentAsByteArray();
+        ObjectMapper mapper = type.equals(MediaType.APPLICATION_CBOR) ? cborMapper : jsonMapper;
+        return mapper.readTree(body);
+    }
+
+    private static Set<String> names(JsonNode node) {
+        return node.properties().stream().map(Map.Entry::getKey).collect(Collectors.toSet());
+    }
+}
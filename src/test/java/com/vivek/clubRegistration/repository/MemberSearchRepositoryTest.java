@@ -0,0 +1,96 @@
+package com.vivek.clubRegistration.repository;
+
+import com.vivek.clubRegistration.model.Member;
+import com.vivek.clubRegistration.model.MemberCursor;
+import com.vivek.clubRegistration.model.MemberSearchCriteria;
+import com.vivek.clubRegistration.model.MemberSummary;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.vivek.clubRegistration.TestMembers.applicantBuilder;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// Other test classes share the database; every search here is limited to this class's day
+@SpringBootTest
+class MemberSearchRepositoryTest {
+
+    private static final LocalDate DAY = LocalDate.of(2099, 6, 1);
+    private static final LocalDateTime TIED = DAY.atTime(12, 0);
+
+    @Autowired MemberRepository memberRepository;
+
+    private final List<Member> saved = new ArrayList<>();
+
+    @AfterEach
+    void cleanUp() {
+        memberRepository.deleteAllInBatch(saved);
+        saved.clear();
+    }
+
+    @Test
+    void likeWildcardsInTheQueryMatchLiterally() {
+        Member percent = save("Rate 100% Club", "like-percent@example.com", TIED);
+        Member digits = save("Rate 1000 Club", "like-digits@example.com", TIED);
+        Member underscore = save("Under_score", "like-underscore@example.com", TIED);
+        Member letter = save("Underxscore", "like-letter@example.com", TIED);
+        Member backslash = save("Back\\slash", "like-backslash@example.com", TIED);
+
+        assertEquals(List.of(percent.getId()), ids(contains("100%")));
+        assertEquals(List.of(digits.getId(), percent.getId()), ids(contains("rate 10")));
+        assertEquals(List.of(underscore.getId()), ids(prefix("under_")));
+        assertEquals(List.of(letter.getId(), underscore.getId()), ids(prefix("under")));
+        assertEquals(List.of(backslash.getId()), ids(prefix("back\\")));
+        assertEquals(List.of(), ids(prefix("%")));
+    }
+
+    @Test
+    void cursorOnATiedRegistrationTimeContinuesBelowItsId() {
+        Member newer = save("Cursor Newer", "cursor-newer@example.com", TIED.plusSeconds(1));
+        List<Member> tied = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            tied.add(save("Cursor Tied", "cursor-tied-" + i + "@example.com", TIED));
+        }
+        Member older = save("Cursor Older", "cursor-older@example.com", TIED.minusSeconds(1));
+        MemberSearchCriteria all = prefix("cursor-");
+        assertEquals(List.of(newer.getId(), tied.get(2).getId(), tied.get(1).getId(), tied.get(0).getId(),
+                older.getId()), ids(all));
+
+        // Rows tied with the cursor are kept only below its id; older rows all follow
+        assertEquals(List.of(tied.get(0).getId(), older.getId()), ids(all, tied.get(1), 10));
+        assertEquals(List.of(tied.get(2).getId(), tied.get(1).getId()), ids(all, newer, 2));
+        assertEquals(List.of(older.getId()), ids(all, tied.get(0), 10));
+    }
+
+    private List<Long> ids(MemberSearchCriteria criteria) {
+        return ids(criteria, null, 50);
+    }
+
+    private List<Long> ids(MemberSearchCriteria criteria, Member after, int limit) {
+        MemberSearchCriteria onDay = criteria.toBuilder().registeredFrom(DAY).registeredTo(DAY).build();
+        MemberCursor cursor = after == null ? null : new MemberCursor(after.getRegisteredAt(), after.getId());
+        return memberRepository.search(onDay, cursor, limit).stream().map(MemberSummary::getId).toList();
+    }
+
+    // Queries are passed as the service normalizes them: trimmed and lower-cased
+    private static MemberSearchCriteria prefix(String query) {
+        return MemberSearchCriteria.builder().query(query).build();
+    }
+
+    private static MemberSearchCriteria contains(String query) {
+        return MemberSearchCriteria.builder().query(query).match(MemberSearchCriteria.Match.CONTAINS).build();
+    }
+
+    private Member save(String fullName, String email, LocalDateTime registeredAt) {
+        Member member = memberRepository.save(
+                applicantBuilder(email).fullName(fullName).registeredAt(registeredAt).build());
+        saved.add(member);
+        return member;
+    }
+}
@@ -0,0 +1,92 @@
+package com.vivek.clubRegistration.service;
+
+import com.vivek.clubRegistration.model.AnalyticsReport;
+import com.vivek.clubRegistration.model.Member;
+import com.vivek.clubRegistration.model.MemberStatus;
+import com.vivek.clubRegistration.repository.MemberRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.Map;
+
+import static com.vivek.clubRegistration.TestMembers.applicantBuilder;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// Other test classes share the database, so assertions compare before and after
+@SpringBootTest
+class AnalyticsServiceTest {
+
+    private static final String TIER = "PLATINUM";
+
+    @Autowired MemberService memberService;
+    @Autowired AnalyticsService analyticsService;
+    @Autowired MemberRepository memberRepository;
+    @Autowired PlatformTransactionManager transactionManager;
+
+    @Test
+    void rollupsFollowCommittedChangesAndSurviveCompactionAndBackfill() {
+        LocalDate today = LocalDate.now();
+        AnalyticsReport before = analyticsService.report(today, today, TIER);
+
+        Member kept = memberService.registerMember(member("analytics-kept@example.com"));
+        Member removed = memberService.registerMember(member("analytics-removed@example.com"));
+        memberService.approveMember(kept.getId());
+        memberService.deleteMember(removed.getId());
+        new TransactionTemplate(transactionManager).executeWithoutResult(tx -> {
+            memberService.rejectMember(kept.getId(), "Rolled back");
+            tx.setRollbackOnly();
+        });
+
+        AnalyticsReport after = analyticsService.report(today, today, TIER);
+        assertEquals(2, total(after, "REGISTERED") - total(before, "REGISTERED"));
+        assertEquals(1, total(after, "APPROVED") - total(before, "APPROVED"));
+        assertEquals(1, total(after, "DELETED") - total(before, "DELETED"));
+        assertEquals(0, total(after, "REJECTED") - total(before, "REJECTED"));
+        assertEquals(1, mix(after, MemberStatus.APPROVED) - mix(before, MemberStatus.APPROVED));
+        assertEquals(0, mix(after, MemberStatus.PENDING) - mix(before, MemberStatus.PENDING));
+        // Registered at 36, so in the 30-39 bucket
+        assertEquals(1, bucket(after, "30-39") - bucket(before, "30-39"));
+
+        analyticsService.compact();
+        assertEquals(after, analyticsService.report(today, today, TIER));
+
+        // A rebuild from the member tables agrees with them on the current mix, and keeps the
+        // rejections and deletions they don't record
+        analyticsService.backfill();
+        AnalyticsReport rebuilt = analyticsService.report(today, today, TIER);
+        assertEquals(total(after, "DELETED"), total(rebuilt, "DELETED"));
+        assertEquals(total(after, "REJECTED"), total(rebuilt, "REJECTED"));
+        Map<MemberStatus, Long> expected = new EnumMap<>(MemberStatus.class);
+        for (Object[] row : memberRepository.countGroupByStatus()) {
+            expected.put((MemberStatus) row[0], (Long) row[1]);
+        }
+        Map<MemberStatus, Long> actual = new EnumMap<>(MemberStatus.class);
+        analyticsService.report(today, today, null).getMix().values()
+                .forEach(counts -> counts.forEach((status, n) -> actual.merge(status, n, Long::sum)));
+        assertEquals(expected, actual);
+    }
+
+    private static long total(AnalyticsReport report, String eventType) {
+        return report.getTotals().getOrDefault(eventType, 0L);
+    }
+
+    private static long mix(AnalyticsReport report, MemberStatus status) {
+        return report.getMix().getOrDefault(TIER, Map.of()).getOrDefault(status, 0L);
+    }
+
+    private static long bucket(AnalyticsReport report, String label) {
+        return report.getAgeHistogram().getOrDefault(label, Map.of()).values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    private static Member member(String email) {
+        return applicantBuilder(email)
+                .dateOfBirth(LocalDate.now().minusYears(36))
+                .membershipType(TIER)
+                .build();
+    }
+}
@@ -0,0 +1,107 @@
+package com.vivek.clubRegistration.service;
+
+import com.vivek.clubRegistration.model.BatchOperationResult;
+import com.vivek.clubRegistration.model.MemberStatus;
+import com.vivek.clubRegistration.repository.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static com.vivek.clubRegistration.TestMembers.applicant;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+// Same configuration as CapacityServiceConcurrencyTest, so the two share one application context
+@SpringBootTest(properties = "club.max.members=" + CapacityServiceConcurrencyTest.MAX)
+class BatchOperationsTest {
+
+    private static final long MISSING = Long.MAX_VALUE;
+
+    @Autowired MemberService memberService;
+    @Autowired CapacityService capacityService;
+    @Autowired MemberRepository memberRepository;
+    @Autowired PlatformTransactionManager transactionManager;
+
+    private final List<Long> ids = new ArrayList<>();
+
+    @BeforeEach
+    void seedPendingMembers() {
+        memberRepository.deleteAll();
+        capacityService.reconcile();
+        ids.clear();
+        for (int i = 0; i < 4; i++) {
+            ids.add(memberRepository.save(applicant("batch" + i + "@example.com")).getId());
+        }
+    }
+
+    @Test
+    void missingRepeatedAndAlreadyApprovedIdsAreReportedPerId() {
+        memberService.approveMember(ids.get(0));
+
+        BatchOperationResult approved = memberService.approveMembers(
+                List.of(ids.get(0), MISSING, ids.get(1), ids.get(1)));
+        assertEquals(List.of(ids.get(1)), approved.getSucceeded());
+        assertEquals(Map.of(ids.get(0), "Member is already approved.",
+                MISSING, "Member not found with ID: " + MISSING), approved.getFailed());
+        assertEquals("Approved 1 member(s); 2 failed.", approved.summary("Approved"));
+        assertEquals(2, capacityService.getUsed());
+
+        BatchOperationResult rejected = memberService.rejectMembers(List.of(MISSING, ids.get(1), ids.get(2)), null);
+        assertEquals(List.of(ids.get(1), ids.get(2)), rejected.getSucceeded());
+        assertEquals(Map.of(MISSING, "Member not found with ID: " + MISSING), rejected.getFailed());
+        assertEquals(1, capacityService.getUsed());
+
+        BatchOperationResult deleted = memberService.deleteMembers(List.of(ids.get(0), MISSING));
+        assertEquals(List.of(ids.get(0)), deleted.getSucceeded());
+        assertEquals(Map.of(MISSING, "Member not found with ID: " + MISSING), deleted.getFailed());
+        assertEquals(0, capacityService.getUsed());
+        assertFalse(memberRepository.existsById(ids.get(0)));
+    }
+
+    @Test
+    void batchWaitsForRowsLockedByAnotherTransaction() throws Exception {
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+
+        // Another admin holds the row lock on the first member while approving it
+        Future<?> holder = pool.submit(() -> new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            memberRepository.findByIdForUpdate(ids.get(0)).orElseThrow();
+            memberService.approveMember(ids.get(0));
+            locked.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        locked.await(10, TimeUnit.SECONDS);
+        Future<BatchOperationResult> batch = pool.submit(() -> memberService.approveMembers(ids.subList(0, 2)));
+        assertThrows(TimeoutException.class, () -> batch.get(500, TimeUnit.MILLISECONDS));
+
+        release.countDown();
+        holder.get(10, TimeUnit.SECONDS);
+        BatchOperationResult result = batch.get(10, TimeUnit.SECONDS);
+        pool.shutdown();
+
+        // The batch sees the committed approval instead of approving the member a second time
+        assertEquals(List.of(ids.get(1)), result.getSucceeded());
+        assertEquals(Map.of(ids.get(0), "Member is already approved."), result.getFailed());
+        assertEquals(2, memberRepository.countByStatus(MemberStatus.APPROVED));
+        assertEquals(2, capacityService.getUsed());
+    }
+}
@@ -0,0 +1,46 @@
+package com.vivek.clubRegistration.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BloomFilterTest {
+
+    private static final int INSERTIONS = 20_000;
+    private static final double FPP = 0.01;
+
+    @Test
+    void neverForgetsAnAddedValue() {
+        BloomFilter filter = filled();
+
+        for (int i = 0; i < INSERTIONS; i++) {
+            assertTrue(filter.mightContain("member" + i + "@example.com"));
+        }
+        assertEquals(INSERTIONS, filter.insertions());
+    }
+
+    @Test
+    void falsePositivesStayNearTheConfiguredRateAtCapacity() {
+        BloomFilter filter = filled();
+
+        int probes = 200_000;
+        int falsePositives = 0;
+        for (int i = 0; i < probes; i++) {
+            if (filter.mightContain("stranger" + i + "@example.org")) {
+                falsePositives++;
+            }
+        }
+        double observed = (double) falsePositives / probes;
+        assertTrue(observed < FPP * 1.5, "observed fpp " + observed);
+        assertTrue(filter.expectedFpp() < FPP * 1.1, "expected fpp " + filter.expectedFpp());
+    }
+
+    private static BloomFilter filled() {
+        BloomFilter filter = new BloomFilter(INSERTIONS, FPP);
+        for (int i = 0; i < INSERTIONS; i++) {
+            filter.put("member" + i + "@example.com");
+        }
+        return filter;
+    }
+}
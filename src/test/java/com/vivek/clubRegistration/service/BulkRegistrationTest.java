@@ -0,0 +1,94 @@
+package com.vivek.clubRegistration.service;
+
+import com.vivek.clubRegistration.model.BulkRegistrationResult;
+import com.vivek.clubRegistration.model.Member;
+import com.vivek.clubRegistration.model.MemberStatus;
+import com.vivek.clubRegistration.repository.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.vivek.clubRegistration.TestMembers.applicant;
+import static com.vivek.clubRegistration.TestMembers.applicantBuilder;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Same configuration as WaitlistTest, so the two share one application context
+@SpringBootTest(properties = "club.max.members=" + WaitlistTest.MAX)
+class BulkRegistrationTest {
+
+    @Autowired MemberService memberService;
+    @Autowired CapacityService capacityService;
+    @Autowired StatsService statsService;
+    @Autowired Waitlist waitlist;
+    @Autowired MemberRepository memberRepository;
+
+    @BeforeEach
+    void emptyClub() {
+        memberRepository.deleteAll();
+        capacityService.reconcile();
+        statsService.resync();
+        waitlist.reload();
+    }
+
+    @Test
+    void batchLargerThanOneLookupChunkReportsEveryRuleByIndex() {
+        memberService.registerMember(applicant("bulk1100@example.com"));
+        List<Member> batch = new ArrayList<>();
+        for (int i = 0; i < 1205; i++) {
+            batch.add(applicant("bulk" + i + "@example.com"));
+        }
+        batch.set(1203, applicant("BULK3@Example.com"));
+        batch.set(1204, applicantBuilder("minor@example.com").dateOfBirth(LocalDate.now().minusYears(10)).build());
+
+        List<BulkRegistrationResult> results = memberService.registerMembers(batch);
+
+        assertEquals(1205, results.size());
+        assertRejected(results.get(1100), 1100, "DUPLICATE_EMAIL");
+        assertRejected(results.get(1203), 1203, "DUPLICATE_EMAIL");
+        assertEquals("Email appears more than once in this batch.", results.get(1203).getMessage());
+        assertRejected(results.get(1204), 1204, "AGE_RESTRICTION");
+        assertTrue(results.get(3).isSuccess());
+        assertEquals("bulk3@example.com", results.get(3).getEmail());
+        assertEquals(1202, results.stream().filter(BulkRegistrationResult::isSuccess).count());
+        assertTrue(results.stream().filter(BulkRegistrationResult::isSuccess)
+                .allMatch(r -> r.getStatus() == MemberStatus.PENDING && r.getMemberId() != null));
+        assertEquals(1203, memberRepository.count());
+    }
+
+    @Test
+    void capacityIsEvaluatedOnceForTheWholeBatch() {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < WaitlistTest.MAX; i++) {
+            ids.add(memberService.registerMember(applicant("member" + i + "@example.com")).getId());
+        }
+        memberService.approveMembers(ids.subList(0, WaitlistTest.MAX - 1));
+
+        // One slot is left: the whole batch is PENDING, since only approval takes a slot
+        List<BulkRegistrationResult> open = memberService.registerMembers(List.of(
+                applicant("open0@example.com"), applicant("open1@example.com")));
+        assertTrue(open.stream().allMatch(r -> r.getStatus() == MemberStatus.PENDING));
+
+        memberService.approveMember(ids.get(WaitlistTest.MAX - 1));
+        assertTrue(capacityService.isFull());
+
+        List<BulkRegistrationResult> full = memberService.registerMembers(List.of(
+                applicant("full0@example.com"), applicant("full1@example.com"), applicant("full2@example.com")));
+        for (int i = 0; i < full.size(); i++) {
+            assertEquals(MemberStatus.WAITLISTED, full.get(i).getStatus());
+            assertEquals(i + 1, memberService.getWaitlistPosition(full.get(i).getMemberId()).getPosition());
+        }
+    }
+
+    private static void assertRejected(BulkRegistrationResult result, int index, String rule) {
+        assertFalse(result.isSuccess());
+        assertEquals(index, result.getIndex());
+        assertEquals(rule, result.getRule());
+    }
+}
@@ -0,0 +1,158 @@
+package com.vivek.clubRegistration.service;
+
+import com.vivek.clubRegistration.exception.RegistrationException;
+import com.vivek.clubRegistration.model.BatchOperationResult;
+import com.vivek.clubRegistration.model.MemberStatus;
+import com.vivek.clubRegistration.repository.ClubCapacityRepository;
+import com.vivek.clubRegistration.repository.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.vivek.clubRegistration.TestMembers.applicant;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "club.max.members=" + CapacityServiceConcurrencyTest.MAX)
+class CapacityServiceConcurrencyTest {
+
+    static final int MAX = 10;
+    static final int APPLICANTS = 60;
+    static final int THREADS = 24;
+
+    @Autowired MemberService memberService;
+    @Autowired CapacityService capacityService;
+    @Autowired MemberRepository memberRepository;
+    @Autowired ClubCapacityRepository capacityRepository;
+
+    private final List<Long> pendingIds = new ArrayList<>();
+
+    @BeforeEach
+    void seedPendingMembers() {
+        memberRepository.deleteAll();
+        capacityService.reconcile();
+        pendingIds.clear();
+        for (int i = 0; i < APPLICANTS; i++) {
+            pendingIds.add(memberRepository.save(applicant("applicant" + i + "@example.com")).getId());
+        }
+    }
+
+    @Test
+    void concurrentApprovalsNeverExceedCapacity() throws Exception {
+        AtomicInteger approved = new AtomicInteger();
+        AtomicInteger refused = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+        // Every applicant is approved twice, from different threads, to also race same-row approvals
+        for (int round = 0; round < 2; round++) {
+            for (Long id : pendingIds) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    try {
+                        memberService.approveMember(id);
+                        approved.incrementAndGet();
+                    } catch (RegistrationException e) {
+                        refused.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+        }
+        start.countDown();
+        for (Future<?> f : futures) {
+            f.get(60, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+
+        assertEquals(MAX, approved.get());
+        assertEquals(2 * APPLICANTS - MAX, refused.get());
+        assertEquals(MAX, memberRepository.countByStatus(MemberStatus.APPROVED));
+        assertEquals(MAX, capacityRepository.findById(CapacityService.MEMBERS).orElseThrow().getUsed());
+        assertEquals(MAX, capacityService.getUsed());
+        assertTrue(capacityService.isFull());
+    }
+
+    @Test
+    void mirrorMatchesCounterAfterConcurrentChangesBelowLimit() throws Exception {
+        List<Long> first = pendingIds.subList(0, MAX - 2);
+        runConcurrently(first.stream().<Runnable>map(id -> () -> memberService.approveMember(id)).toList());
+        assertEquals(MAX - 2, capacityRepository.findById(CapacityService.MEMBERS).orElseThrow().getUsed());
+        assertEquals(MAX - 2, capacityService.getUsed());
+
+        // Releases racing reservations: three rejected while two more are approved
+        List<Runnable> mixed = new ArrayList<>();
+        first.subList(0, 3).forEach(id -> mixed.add(() -> memberService.rejectMember(id, "Membership lapsed")));
+        pendingIds.subList(MAX - 2, MAX).forEach(id -> mixed.add(() -> memberService.approveMember(id)));
+        runConcurrently(mixed);
+        assertEquals(MAX - 3, capacityRepository.findById(CapacityService.MEMBERS).orElseThrow().getUsed());
+        assertEquals(MAX - 3, capacityService.getUsed());
+        assertFalse(capacityService.isFull());
+    }
+
+    @Test
+    void rejectAndDeleteReleaseSlots() {
+        for (int i = 0; i < MAX; i++) {
+            memberService.approveMember(pendingIds.get(i));
+        }
+        RegistrationException full = assertThrows(RegistrationException.class,
+                () -> memberService.approveMember(pendingIds.get(MAX)));
+        assertEquals("CAPACITY_FULL", full.getRule());
+
+        memberService.rejectMember(pendingIds.get(0), "Membership lapsed");
+        memberService.deleteMember(pendingIds.get(1));
+        assertEquals(MAX - 2, capacityService.getUsed());
+        assertFalse(capacityService.isFull());
+
+        memberService.approveMember(pendingIds.get(MAX));
+        memberService.approveMember(pendingIds.get(MAX + 1));
+        assertEquals(MAX, capacityRepository.findById(CapacityService.MEMBERS).orElseThrow().getUsed());
+        assertEquals(MAX, memberRepository.countByStatus(MemberStatus.APPROVED));
+    }
+
+    @Test
+    void batchApprovalFillsRemainingSlotsOldestFirst() {
+        memberService.approveMember(pendingIds.get(0));
+
+        BatchOperationResult result = memberService.approveMembers(pendingIds);
+
+        assertEquals(pendingIds.subList(1, MAX), result.getSucceeded());
+        assertEquals(APPLICANTS - MAX + 1, result.getFailed().size());
+        assertEquals(MAX, memberRepository.countByStatus(MemberStatus.APPROVED));
+        assertEquals(MAX, capacityService.getUsed());
+
+        memberService.deleteMembers(pendingIds.subList(0, 3));
+        assertEquals(MAX - 3, capacityRepository.findById(CapacityService.MEMBERS).orElseThrow().getUsed());
+    }
+
+    private static void runConcurrently(List<Runnable> tasks) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+        for (Runnable task : tasks) {
+            futures.add(pool.submit(() -> {
+                start.await();
+                task.run();
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> f : futures) {
+            f.get(60, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+    }
+}
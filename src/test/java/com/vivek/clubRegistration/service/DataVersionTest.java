@@ -0,0 +1,50 @@
+package com.vivek.clubRegistration.service;
+
+import com.vivek.clubRegistration.model.Member;
+import com.vivek.clubRegistration.model.MemberStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+
+import static com.vivek.clubRegistration.TestMembers.applicant;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+@SpringBootTest
+class DataVersionTest {
+
+    @Autowired MemberService memberService;
+    @Autowired DataVersion dataVersion;
+    @Autowired JdbcTemplate jdbcTemplate;
+    @Autowired PlatformTransactionManager transactionManager;
+
+    @Test
+    void tagsComeFromSharedStateAndMoveOnlyOnCommit() {
+        // Another instance of the application, seeing the same database
+        DataVersion otherInstance = new DataVersion(jdbcTemplate);
+        String all = dataVersion.etag();
+        String rejected = dataVersion.etag(MemberStatus.REJECTED);
+
+        Member member = memberService.registerMember(applicant("data-version@example.com"));
+        memberService.approveMember(member.getId());
+
+        assertNotEquals(all, otherInstance.etag());
+        assertEquals(dataVersion.etag(), otherInstance.etag());
+        assertEquals(dataVersion.etag(MemberStatus.APPROVED), otherInstance.etag(MemberStatus.APPROVED));
+        assertEquals(rejected, otherInstance.etag(MemberStatus.REJECTED));
+
+        String allApproved = dataVersion.etag();
+        String approved = dataVersion.etag(MemberStatus.APPROVED);
+        new TransactionTemplate(transactionManager).executeWithoutResult(tx -> {
+            memberService.rejectMember(member.getId(), "Rolled back");
+            tx.setRollbackOnly();
+        });
+        assertEquals(allApproved, otherInstance.etag());
+        assertEquals(approved, otherInstance.etag(MemberStatus.APPROVED));
+        assertEquals(rejected, otherInstance.etag(MemberStatus.REJECTED));
+    }
+}
@@ -0,0 +1,76 @@
+package com.vivek.clubRegistration.service;
+
+import com.vivek.clubRegistration.repository.ArchivedMemberRepository;
+import com.vivek.clubRegistration.repository.MemberRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EmailIndexTest {
+
+    private final MemberRepository memberRepository = mock(MemberRepository.class);
+    private final ArchivedMemberRepository archiveRepository = mock(ArchivedMemberRepository.class);
+    private final List<String> members = new ArrayList<>(
+            IntStream.range(0, 20).mapToObj(i -> "member" + i + "@example.com").toList());
+
+    // Rebuilds once more than 10% of the emails in the filter have been deleted
+    private final EmailIndex index = new EmailIndex(memberRepository, archiveRepository,
+            mock(PlatformTransactionManager.class), new SimpleMeterRegistry(), 1_000, 0.01, 0.1);
+
+    EmailIndexTest() {
+        when(memberRepository.count()).thenAnswer(call -> (long) members.size());
+        when(memberRepository.streamAllEmails()).thenAnswer(call -> List.copyOf(members).stream());
+        when(archiveRepository.count()).thenReturn(1L);
+        when(archiveRepository.streamAllEmails()).thenAnswer(call -> List.of("archived@example.com").stream());
+    }
+
+    @Test
+    void everyEmailIsAMaybeUntilWarmedUp() {
+        assertTrue(index.mightContain("stranger@example.org"));
+
+        index.warmUp();
+
+        assertFalse(index.mightContain("stranger@example.org"));
+        assertTrue(index.mightContain("member3@example.com"));
+        assertTrue(index.mightContain("archived@example.com"));
+    }
+
+    @Test
+    void addedEmailsAreSeenBeforeTheNextRebuild() {
+        index.warmUp();
+
+        index.add("new@example.com");
+
+        assertTrue(index.mightContain("new@example.com"));
+    }
+
+    @Test
+    void rebuildsOnceDeletedEmailsPassTheStaleRatio() {
+        index.warmUp();
+        verify(memberRepository, times(1)).streamAllEmails();
+
+        // 21 emails in the filter: the first two deletes are still within 10%
+        for (int i = 0; i < 2; i++) {
+            members.remove("member" + i + "@example.com");
+            index.remove("member" + i + "@example.com");
+        }
+        verify(memberRepository, after(200).times(1)).streamAllEmails();
+
+        members.remove("member2@example.com");
+        index.remove("member2@example.com");
+        verify(memberRepository, timeout(5_000).times(2)).streamAllEmails();
+    }
+}
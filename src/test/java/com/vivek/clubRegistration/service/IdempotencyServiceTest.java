@@ -0,0 +1,187 @@
+package com.vivek.clubRegistration.service;
+
+import com.vivek.clubRegistration.exception.InvalidRequestException;
+import com.vivek.clubRegistration.model.ApiResponse;
+import com.vivek.clubRegistration.model.IdempotencyRecord;
+import com.vivek.clubRegistration.model.Member;
+import com.vivek.clubRegistration.repository.IdempotencyRecordRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static com.vivek.clubRegistration.TestMembers.applicantBuilder;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class IdempotencyServiceTest {
+
+    private final IdempotencyRecordRepository recordRepository = mock(IdempotencyRecordRepository.class);
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    private final AtomicInteger registrations = new AtomicInteger();
+
+    @Test
+    void replaysTheFirstResponseForTheSameRequest() {
+        IdempotencyService service = service(false);
+
+        IdempotencyService.Outcome first = service.execute("key-1", "body-a", registration());
+        IdempotencyService.Outcome retry = service.execute("key-1", "body-a", registration());
+
+        assertFalse(first.isReplayed());
+        assertTrue(retry.isReplayed());
+        assertSame(first.getResponse(), retry.getResponse());
+        assertEquals(1, registrations.get());
+    }
+
+    @Test
+    void refusesAKeyReusedForADifferentRequest() {
+        IdempotencyService service = service(false);
+        service.execute("key-1", "body-a", registration());
+
+        assertThrows(InvalidRequestException.class,
+                () -> service.execute("key-1", "body-b", registration()));
+        assertEquals(1, registrations.get());
+    }
+
+    @Test
+    void forgetsFailedExecutions() {
+        IdempotencyService service = service(false);
+
+        assertThrows(IllegalStateException.class, () -> service.execute("key-1", "body-a", () -> {
+            throw new IllegalStateException("database down");
+        }));
+        IdempotencyService.Outcome retry = service.execute("key-1", "body-a", registration());
+
+        assertFalse(retry.isReplayed());
+        assertEquals(1, registrations.get());
+    }
+
+    @Test
+    void concurrentFirstUsesRunTheRegistrationOnce() throws Exception {
+        IdempotencyService service = service(false);
+        int requests = 8;
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Supplier<ApiResponse<Member>> slowRegistration = () -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return registration().get();
+        };
+
+        List<Future<IdempotencyService.Outcome>> outcomes = new ArrayList<>();
+        try (ExecutorService pool = Executors.newFixedThreadPool(requests)) {
+            for (int i = 0; i < requests; i++) {
+                outcomes.add(pool.submit(() -> service.execute("key-1", "body-a", slowRegistration)));
+            }
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            // Let the other requests reach the in-flight execution before it completes
+            Thread.sleep(200);
+            release.countDown();
+        }
+
+        int replayed = 0;
+        for (Future<IdempotencyService.Outcome> outcome : outcomes) {
+            assertSame(outcomes.getFirst().get().getResponse(), outcome.get().getResponse());
+            replayed += outcome.get().isReplayed() ? 1 : 0;
+        }
+        assertEquals(1, registrations.get());
+        assertEquals(requests - 1, replayed);
+    }
+
+    @Test
+    void replaysAPersistedResponseAfterARestart() {
+        ApiResponse<Member> stored = ApiResponse.ok("Registration successful", Member.builder().fullName("Stored").build());
+        when(recordRepository.findById("key-1")).thenReturn(Optional.of(new IdempotencyRecord(
+                "key-1", "body-a", jsonMapper.writeValueAsString(stored), LocalDateTime.now())));
+        IdempotencyService service = service(true);
+
+        IdempotencyService.Outcome outcome = service.execute("key-1", "body-a", registration());
+
+        assertTrue(outcome.isReplayed());
+        assertEquals("Stored", outcome.getResponse().getData().getFullName());
+        assertEquals(0, registrations.get());
+        assertThrows(InvalidRequestException.class,
+                () -> service.execute("key-1", "body-b", registration()));
+    }
+
+    @Test
+    void persistsTheResponseInTheKeyRowClaimedFirst() {
+        when(recordRepository.findById("key-1")).thenReturn(Optional.empty());
+        when(recordRepository.saveAndFlush(any())).thenAnswer(call -> {
+            assertEquals(0, registrations.get());
+            return call.getArgument(0);
+        });
+        IdempotencyService service = service(true);
+
+        IdempotencyService.Outcome outcome = service.execute("key-1", "body-a", registration());
+
+        ArgumentCaptor<IdempotencyRecord> record = ArgumentCaptor.forClass(IdempotencyRecord.class);
+        verify(recordRepository).saveAndFlush(record.capture());
+        assertEquals("body-a", record.getValue().getFingerprint());
+        assertEquals(jsonMapper.writeValueAsString(outcome.getResponse()), record.getValue().getResponseBody());
+    }
+
+    @Test
+    void concurrentFirstUseOnAnotherInstanceReplaysItsRecord() {
+        ApiResponse<Member> theirs = ApiResponse.ok("Registration successful", applicantBuilder("a@example.com").build());
+        // Both instances miss the row; ours blocks on their insert and fails once they commit
+        when(recordRepository.findById("key-1")).thenReturn(Optional.empty(), Optional.of(new IdempotencyRecord(
+                "key-1", "body-a", jsonMapper.writeValueAsString(theirs), LocalDateTime.now())));
+        when(recordRepository.saveAndFlush(any())).thenThrow(new DataIntegrityViolationException("duplicate key"));
+        IdempotencyService service = service(true);
+
+        IdempotencyService.Outcome outcome = service.execute("key-1", "body-a", registration());
+
+        assertTrue(outcome.isReplayed());
+        assertEquals("a@example.com", outcome.getResponse().getData().getEmail());
+        assertEquals(0, registrations.get());
+    }
+
+    @Test
+    void fingerprintCoversTheWholeRequest() {
+        IdempotencyService service = service(false);
+        String first = service.fingerprint(applicantBuilder("same@example.com").build());
+
+        assertEquals(first, service.fingerprint(applicantBuilder(" Same@Example.com ").build()));
+        assertNotEquals(first, service.fingerprint(applicantBuilder("same@example.com").fullName("Someone Else").build()));
+        assertNotEquals(first, service.fingerprint(applicantBuilder("same@example.com").phone("9123456780").build()));
+        assertNotEquals(first, service.fingerprint(applicantBuilder("same@example.com").membershipType("SILVER").build()));
+    }
+
+    private IdempotencyService service(boolean persist) {
+        return new IdempotencyService(recordRepository, mock(PlatformTransactionManager.class), jsonMapper,
+                new SimpleMeterRegistry(), 1_000, Duration.ofHours(24), Duration.ofSeconds(30), persist);
+    }
+
+    private Supplier<ApiResponse<Member>> registration() {
+        return () -> ApiResponse.ok("Registration successful",
+                Member.builder().fullName("Member " + registrations.incrementAndGet()).build());
+    }
+}
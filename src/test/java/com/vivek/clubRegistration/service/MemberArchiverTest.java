@@ -0,0 +1,108 @@
+package com.vivek.clubRegistration.service;
+
+import com.vivek.clubRegistration.exception.RegistrationException;
+import com.vivek.clubRegistration.model.ArchivedMember;
+import com.vivek.clubRegistration.model.BulkRegistrationResult;
+import com.vivek.clubRegistration.model.Member;
+import com.vivek.clubRegistration.model.MemberStatus;
+import com.vivek.clubRegistration.repository.ArchivedMemberRepository;
+import com.vivek.clubRegistration.repository.MemberRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.vivek.clubRegistration.TestMembers.applicant;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+class MemberArchiverTest {
+
+    @Autowired MemberService memberService;
+    @Autowired MemberRepository memberRepository;
+    @Autowired ArchivedMemberRepository archiveRepository;
+    @Autowired EmailIndex emailIndex;
+    @Autowired ApplicationEventPublisher events;
+    @Autowired PlatformTransactionManager transactionManager;
+    @Autowired JdbcTemplate jdbcTemplate;
+
+    private final List<Long> created = new ArrayList<>();
+
+    @AfterEach
+    void cleanUp() {
+        archiveRepository.deleteAllById(created);
+        memberRepository.deleteAllById(created);
+    }
+
+    @Test
+    void movesOldRejectedAndStalePendingMembersInBatches() {
+        // Rejections archive after 90 days, unreviewed applications after 365; batches of 2
+        MemberArchiver archiver = new MemberArchiver(memberRepository, archiveRepository, emailIndex, events,
+                transactionManager, new SimpleMeterRegistry(), true, Duration.ofDays(90), Duration.ofDays(365), 2);
+        List<Member> oldRejected = List.of(
+                rejected("archive-rejected-1@example.com", 100),
+                rejected("archive-rejected-2@example.com", 120),
+                rejected("archive-rejected-3@example.com", 400));
+        Member recentRejected = rejected("archive-rejected-recent@example.com", 80);
+        Member stalePending = pending("archive-pending-stale@example.com", 400);
+        Member recentPending = pending("archive-pending-recent@example.com", 200);
+
+        assertTrue(archiver.archive() >= 4);
+
+        for (Member member : List.of(oldRejected.get(0), oldRejected.get(1), oldRejected.get(2), stalePending)) {
+            assertFalse(memberRepository.existsById(member.getId()));
+            ArchivedMember copy = archiveRepository.findById(member.getId()).orElseThrow();
+            assertEquals(member.getEmail(), copy.getEmail());
+            assertEquals(member.getStatus(), copy.getStatus());
+            assertEquals(member.getFullName(), copy.getFullName());
+        }
+        for (Member member : List.of(recentRejected, recentPending)) {
+            assertTrue(memberRepository.existsById(member.getId()));
+            assertFalse(archiveRepository.existsById(member.getId()));
+        }
+    }
+
+    @Test
+    void archivedEmailsStillBlockRegistration() {
+        MemberArchiver archiver = new MemberArchiver(memberRepository, archiveRepository, emailIndex, events,
+                transactionManager, new SimpleMeterRegistry(), true, Duration.ofDays(90), null, 500);
+        Member archived = rejected("archive-returning@example.com", 100);
+        archiver.archive();
+        assertTrue(archiveRepository.existsById(archived.getId()));
+
+        RegistrationException single = assertThrows(RegistrationException.class,
+                () -> memberService.registerMember(applicant("Archive-Returning@example.com")));
+        assertEquals("DUPLICATE_EMAIL", single.getRule());
+
+        BulkRegistrationResult bulk = memberService.registerMembers(
+                List.of(applicant("archive-returning@example.com"))).getFirst();
+        assertFalse(bulk.isSuccess());
+        assertEquals("DUPLICATE_EMAIL", bulk.getRule());
+    }
+
+    private Member rejected(String email, int ageInDays) {
+        Member member = pending(email, ageInDays);
+        return memberService.rejectMember(member.getId(), "Incomplete application");
+    }
+
+    // Registered through the service so stats and rollups see the member, then backdated
+    private Member pending(String email, int ageInDays) {
+        Member member = memberService.registerMember(applicant(email));
+        created.add(member.getId());
+        jdbcTemplate.update("UPDATE members SET registered_at = ? WHERE id = ?",
+                LocalDateTime.now().minusDays(ageInDays), member.getId());
+        return member;
+    }
+}
@@ -0,0 +1,85 @@
+package com.vivek.clubRegistration.service;
+
+import com.vivek.clubRegistration.model.Member;
+import com.vivek.clubRegistration.repository.MemberRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.vivek.clubRegistration.TestMembers.applicantBuilder;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Other test classes share the database, so only the row saved here is checked field by field
+@SpringBootTest
+class MemberExportServiceTest {
+
+    private static final String ADDRESS = "12 Main St, \"Rose\" Cottage\nFloor 2";
+    private static final String NOTE = "Line one\r\nLine two";
+
+    @Autowired MemberExportService exportService;
+    @Autowired MemberRepository memberRepository;
+    @Autowired JsonMapper jsonMapper;
+    @Autowired JdbcTemplate jdbcTemplate;
+
+    private Member member;
+
+    @AfterEach
+    void cleanUp() {
+        memberRepository.delete(member);
+    }
+
+    @Test
+    void ndjsonIsOneObjectPerLineWithNewlinesEscaped() throws Exception {
+        member = memberRepository.save(applicantBuilder("export-ndjson@example.com")
+                .address(ADDRESS).adminNote(NOTE).build());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long rows = exportService.exportNdjson(out);
+
+        String body = out.toString(StandardCharsets.UTF_8);
+        assertTrue(body.endsWith("\n"));
+        List<String> lines = body.lines().toList();
+        assertEquals(rows, lines.size());
+        JsonNode exported = null;
+        for (String line : lines) {
+            JsonNode node = jsonMapper.readTree(line);
+            if (node.get("id").asLong() == member.getId()) {
+                exported = node;
+            }
+        }
+        assertEquals("export-ndjson@example.com", exported.get("email").asString());
+        assertEquals(ADDRESS, exported.get("address").asString());
+        assertEquals(NOTE, exported.get("adminNote").asString());
+    }
+
+    @Test
+    void csvQuotesFieldsWithSeparatorsQuotesAndLineBreaks() throws Exception {
+        member = memberRepository.save(applicantBuilder("export-csv@example.com")
+                .address(ADDRESS).adminNote(NOTE).build());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        exportService.exportCsv(out);
+
+        // Read through JDBC: the entity cache still holds the clock's precision, not the column's
+        LocalDateTime registeredAt = jdbcTemplate.queryForObject(
+                "SELECT registered_at FROM members WHERE id = ?", LocalDateTime.class, member.getId());
+        String body = out.toString(StandardCharsets.UTF_8);
+        assertTrue(body.startsWith("id,fullName,email,phone,dateOfBirth,membershipType,address,status,"
+                + "registeredAt,approvedAt,adminNote\r\n"));
+        assertTrue(body.endsWith("\r\n"));
+        String row = member.getId() + ",Test Applicant,export-csv@example.com,9876543210,1990-01-01,GOLD,"
+                + "\"12 Main St, \"\"Rose\"\" Cottage\nFloor 2\",PENDING,"
+                + registeredAt + ",,\"Line one\r\nLine two\"\r\n";
+        assertTrue(body.contains("\r\n" + row), body);
+    }
+}
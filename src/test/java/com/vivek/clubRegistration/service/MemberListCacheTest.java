@@ -0,0 +1,79 @@
+package com.vivek.clubRegistration.service;
+
+import com.vivek.clubRegistration.model.Member;
+import com.vivek.clubRegistration.model.MemberStatus;
+import com.vivek.clubRegistration.model.MemberSummary;
+import com.vivek.clubRegistration.repository.MemberRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.vivek.clubRegistration.TestMembers.applicantBuilder;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// Rows are registered in the future so they head the first page whatever else is in the shared database
+@SpringBootTest
+class MemberListCacheTest {
+
+    private static final LocalDateTime FUTURE = LocalDateTime.of(2098, 1, 1, 12, 0);
+
+    @Autowired MemberService memberService;
+    @Autowired MemberRepository memberRepository;
+    @Autowired JdbcTemplate jdbcTemplate;
+
+    private final List<Member> saved = new ArrayList<>();
+
+    @AfterEach
+    void cleanUp() {
+        memberRepository.deleteAllInBatch(saved);
+    }
+
+    @Test
+    void repeatedPageReadsComeFromTheQueryCacheUntilMembersAreWritten() {
+        Member listed = save("cache-listed@example.com", FUTURE);
+        assertEquals("Test Applicant", firstPendingName());
+
+        // A change Hibernate doesn't see: the cached page is still served
+        jdbcTemplate.update("UPDATE members SET full_name = 'Renamed Directly' WHERE id = ?", listed.getId());
+        assertEquals("Test Applicant", firstPendingName());
+
+        // Any write to members through Hibernate invalidates the cached pages
+        save("cache-older@example.com", FUTURE.minusDays(1));
+        assertEquals("Renamed Directly", firstPendingName());
+    }
+
+    @Test
+    void waitlistReloadIsNotCached() {
+        Member waiting = save("cache-waiting@example.com", FUTURE);
+        assertEquals(List.of(), waitlistedIds());
+
+        // Another instance's change, which this instance's Hibernate never hears about
+        jdbcTemplate.update("UPDATE members SET status = 'WAITLISTED' WHERE id = ?", waiting.getId());
+
+        assertEquals(List.of(waiting.getId()), waitlistedIds());
+    }
+
+    private String firstPendingName() {
+        MemberSummary first = memberService.getMembersPage(MemberStatus.PENDING, null, 5).getItems().getFirst();
+        return first.getFullName();
+    }
+
+    private List<Long> waitlistedIds() {
+        return memberRepository.findSummariesByStatus(MemberStatus.WAITLISTED).stream()
+                .map(MemberSummary::getId)
+                .filter(id -> saved.stream().anyMatch(m -> m.getId().equals(id)))
+                .toList();
+    }
+
+    private Member save(String email, LocalDateTime registeredAt) {
+        Member member = memberRepository.save(applicantBuilder(email).registeredAt(registeredAt).build());
+        saved.add(member);
+        return member;
+    }
+}
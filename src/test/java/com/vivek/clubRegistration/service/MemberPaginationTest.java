@@ -0,0 +1,100 @@
+package com.vivek.clubRegistration.service;
+
+import com.vivek.clubRegistration.model.CursorPage;
+import com.vivek.clubRegistration.model.Member;
+import com.vivek.clubRegistration.model.MemberSearchCriteria;
+import com.vivek.clubRegistration.model.MemberStatus;
+import com.vivek.clubRegistration.model.MemberSummary;
+import com.vivek.clubRegistration.repository.MemberRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+import static com.vivek.clubRegistration.TestMembers.applicantBuilder;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// Other test classes share the database; the rows here are registered in the future so they
+// come first, and only they are compared
+@SpringBootTest
+class MemberPaginationTest {
+
+    private static final LocalDateTime TIED = LocalDateTime.of(2099, 1, 1, 12, 0);
+
+    @Autowired MemberService memberService;
+    @Autowired MemberRepository memberRepository;
+    @Autowired JdbcTemplate jdbcTemplate;
+
+    private final List<Member> saved = new ArrayList<>();
+
+    @AfterEach
+    void cleanUp() {
+        memberRepository.deleteAllInBatch(saved);
+    }
+
+    @Test
+    void pagesThroughEqualRegistrationTimesWithoutGapsOrDuplicates() {
+        for (int i = 0; i < 7; i++) {
+            saved.add(memberRepository.save(member("page-tied-" + i + "@example.com",
+                    i % 2 == 0 ? MemberStatus.APPROVED : MemberStatus.REJECTED)));
+        }
+        // One a second later, so the tie is on the page boundary and not at the start
+        Member newest = member("page-newest@example.com", MemberStatus.APPROVED);
+        newest.setRegisteredAt(TIED.plusSeconds(1));
+        saved.add(memberRepository.save(newest));
+        assertEquals(TIED.plusSeconds(1), jdbcTemplate.queryForObject(
+                "SELECT registered_at FROM members WHERE id = ?", LocalDateTime.class, newest.getId()));
+
+        assertEquals(expectedIds(null), listedIds(null));
+        assertEquals(expectedIds(MemberStatus.APPROVED), listedIds(MemberStatus.APPROVED));
+        assertEquals(expectedIds(MemberStatus.REJECTED), listedIds(MemberStatus.REJECTED));
+
+        MemberSearchCriteria tiedOnly = MemberSearchCriteria.builder().query("page-").build();
+        assertEquals(expectedIds(null), pagedIds(cursor -> memberService.searchMembers(tiedOnly, cursor, 2)));
+        assertEquals(expectedIds(MemberStatus.APPROVED), pagedIds(cursor -> memberService.searchMembers(
+                tiedOnly.toBuilder().status(MemberStatus.APPROVED).build(), cursor, 2)));
+    }
+
+    private List<Long> listedIds(MemberStatus status) {
+        return pagedIds(cursor -> memberService.getMembersPage(status, cursor, 2));
+    }
+
+    // Follows the cursors until past the rows saved here
+    private List<Long> pagedIds(Function<String, CursorPage<MemberSummary>> pages) {
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPage<MemberSummary> page = pages.apply(cursor);
+            for (MemberSummary row : page.getItems()) {
+                if (row.getRegisteredAt().isBefore(TIED)) {
+                    return ids;
+                }
+                ids.add(row.getId());
+            }
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        return ids;
+    }
+
+    private List<Long> expectedIds(MemberStatus status) {
+        return saved.stream()
+                .filter(m -> status == null || m.getStatus() == status)
+                .sorted(Comparator.comparing(Member::getRegisteredAt).thenComparing(Member::getId).reversed())
+                .map(Member::getId)
+                .toList();
+    }
+
+    private static Member member(String email, MemberStatus status) {
+        return applicantBuilder(email)
+                .status(status)
+                .registeredAt(TIED)
+                .build();
+    }
+}
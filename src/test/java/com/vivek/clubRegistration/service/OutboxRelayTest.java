@@ -0,0 +1,64 @@
+package com.vivek.clubRegistration.service;
+
+import com.vivek.clubRegistration.model.Member;
+import com.vivek.clubRegistration.model.OutboxEvent;
+import com.vivek.clubRegistration.repository.OutboxEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static com.vivek.clubRegistration.TestMembers.applicant;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// The scheduled relay is off in tests (see config/application.properties); the test thread delivers
+@SpringBootTest(properties = "club.outbox.sink=events")
+@RecordApplicationEvents
+class OutboxRelayTest {
+
+    @Autowired MemberService memberService;
+    @Autowired OutboxRelay relay;
+    @Autowired OutboxEventRepository outboxRepository;
+    @Autowired PlatformTransactionManager transactionManager;
+    @Autowired ApplicationEvents applicationEvents;
+
+    @BeforeEach
+    void drainBacklog() {
+        relay.drain();
+        applicationEvents.clear();
+    }
+
+    @Test
+    void lifecycleEventsAreDeliveredOncePerCommitInMemberOrder() {
+        Member kept = memberService.registerMember(applicant("outbox-kept@example.com"));
+        Member removed = memberService.registerMember(applicant("outbox-removed@example.com"));
+        memberService.approveMember(kept.getId());
+        memberService.deleteMember(removed.getId());
+        memberService.rejectMember(kept.getId(), "Membership lapsed");
+
+        // A rolled-back change leaves nothing behind
+        new TransactionTemplate(transactionManager).executeWithoutResult(tx -> {
+            memberService.approveMember(kept.getId());
+            tx.setRollbackOnly();
+        });
+
+        relay.drain();
+
+        assertEquals(List.of("REGISTERED", "APPROVED", "REJECTED"), delivered(kept.getId()));
+        assertEquals(List.of("REGISTERED", "DELETED"), delivered(removed.getId()));
+        assertEquals(0, outboxRepository.count());
+    }
+
+    private List<String> delivered(Long memberId) {
+        return applicationEvents.stream(OutboxEvent.class)
+                .filter(e -> e.getMemberId().equals(memberId))
+                .map(OutboxEvent::getEventType)
+                .toList();
+    }
+}
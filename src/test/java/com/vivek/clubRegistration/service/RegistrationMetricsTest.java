@@ -0,0 +1,99 @@
+package com.vivek.clubRegistration.service;
+
+import com.vivek.clubRegistration.exception.RegistrationException;
+import com.vivek.clubRegistration.model.Member;
+import com.vivek.clubRegistration.repository.MemberRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static com.vivek.clubRegistration.TestMembers.applicant;
+import static com.vivek.clubRegistration.TestMembers.applicantBuilder;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+// Meters are shared with the other test classes in this context, so only deltas are checked
+@SpringBootTest
+class RegistrationMetricsTest {
+
+    @Autowired MemberService memberService;
+    @Autowired MemberRepository memberRepository;
+    @Autowired MeterRegistry registry;
+    @Autowired PlatformTransactionManager transactionManager;
+
+    private final List<Long> created = new ArrayList<>();
+
+    @AfterEach
+    void cleanUp() {
+        memberRepository.deleteAllById(created);
+        created.clear();
+    }
+
+    @Test
+    void everyRegistrationStageIsTimed() {
+        Map<String, Long> before = stageCounts();
+
+        created.add(memberService.registerMember(applicant("metrics-stages@example.com")).getId());
+
+        Map<String, Long> after = stageCounts();
+        assertEquals(before.keySet(), after.keySet());
+        assertEquals(List.of("age", "capacity", "duplicate_check", "insert"), after.keySet().stream().sorted().toList());
+        before.forEach((stage, count) -> assertEquals(count + 1, after.get(stage), stage));
+    }
+
+    @Test
+    void rejectionsAreCountedPerRule() {
+        created.add(memberService.registerMember(applicant("metrics-duplicate@example.com")).getId());
+        double duplicates = rejections("DUPLICATE_EMAIL");
+        double underage = rejections("AGE_RESTRICTION");
+
+        assertThrows(RegistrationException.class,
+                () -> memberService.registerMember(applicant("METRICS-DUPLICATE@example.com")));
+        assertThrows(RegistrationException.class, () -> memberService.registerMember(
+                applicantBuilder("metrics-minor@example.com").dateOfBirth(LocalDate.now().minusYears(10)).build()));
+
+        assertEquals(duplicates + 1, rejections("DUPLICATE_EMAIL"));
+        assertEquals(underage + 1, rejections("AGE_RESTRICTION"));
+    }
+
+    @Test
+    void adminActionsAreCountedOnlyOnCommit() {
+        Member member = memberService.registerMember(applicant("metrics-admin@example.com"));
+        double approvals = adminActions("approve");
+        double deletions = adminActions("delete");
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            memberService.approveMember(member.getId());
+            status.setRollbackOnly();
+        });
+        assertEquals(approvals, adminActions("approve"));
+
+        memberService.approveMember(member.getId());
+        memberService.deleteMember(member.getId());
+        assertEquals(approvals + 1, adminActions("approve"));
+        assertEquals(deletions + 1, adminActions("delete"));
+    }
+
+    private Map<String, Long> stageCounts() {
+        return registry.find("club.registration.stage").timers().stream()
+                .collect(Collectors.toMap(t -> t.getId().getTag("stage"), t -> t.count()));
+    }
+
+    private double rejections(String rule) {
+        return registry.get("club.registration.rejections").tag("rule", rule).counter().count();
+    }
+
+    private double adminActions(String action) {
+        return registry.get("club.admin.actions").tag("action", action).counter().count();
+    }
+}
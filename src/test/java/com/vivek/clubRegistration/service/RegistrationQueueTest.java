@@ -0,0 +1,92 @@
+package com.vivek.clubRegistration.service;
+
+import com.vivek.clubRegistration.exception.BackPressureException;
+import com.vivek.clubRegistration.model.BulkRegistrationResult;
+import com.vivek.clubRegistration.model.Member;
+import com.vivek.clubRegistration.model.MemberStatus;
+import com.vivek.clubRegistration.model.RegistrationTicket;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.IntStream;
+
+import static com.vivek.clubRegistration.TestMembers.applicant;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RegistrationQueueTest {
+
+    private final MemberService memberService = mock(MemberService.class);
+
+    @Test
+    void stopDrainsAcknowledgedRegistrations() throws Exception {
+        when(memberService.registerMembers(anyList())).thenAnswer(call -> {
+            Thread.sleep(20);
+            return registered(call.getArgument(0));
+        });
+        RegistrationQueue queue = queue(Duration.ofSeconds(30));
+        queue.start();
+        List<RegistrationTicket> tickets = submit(queue, 50);
+
+        queue.stop();
+
+        tickets.forEach(t -> assertEquals(RegistrationTicket.Status.REGISTERED, t.getStatus(), t.getTrackingId()));
+        assertThrows(BackPressureException.class, () -> queue.submit(member(999)));
+    }
+
+    @Test
+    void registrationsLeftAfterTheTimeoutAreFailedNotLost() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(memberService.registerMembers(anyList())).thenAnswer(call -> {
+            release.await();
+            return registered(call.getArgument(0));
+        });
+        RegistrationQueue queue = queue(Duration.ofMillis(200));
+        queue.start();
+        List<RegistrationTicket> tickets = submit(queue, 50);
+
+        queue.stop();
+        release.countDown();
+
+        for (RegistrationTicket ticket : tickets) {
+            // The batch in flight was interrupted or finished; nothing is left waiting
+            assertNotEquals(RegistrationTicket.Status.QUEUED, ticket.getStatus(), ticket.getTrackingId());
+        }
+        assertTrue(tickets.stream().anyMatch(t -> t.getStatus() == RegistrationTicket.Status.FAILED));
+    }
+
+    // One worker taking batches of 5, so most of the submissions are still queued at stop()
+    private RegistrationQueue queue(Duration shutdownTimeout) {
+        return new RegistrationQueue(memberService, new SimpleMeterRegistry(), 100, 1, 5, Duration.ofHours(1), shutdownTimeout);
+    }
+
+    private static List<RegistrationTicket> submit(RegistrationQueue queue, int count) {
+        List<RegistrationTicket> tickets = new ArrayList<>();
+        IntStream.range(0, count).forEach(i -> tickets.add(queue.submit(member(i))));
+        return tickets;
+    }
+
+    private static List<BulkRegistrationResult> registered(List<Member> members) {
+        List<BulkRegistrationResult> results = new ArrayList<>();
+        for (int i = 0; i < members.size(); i++) {
+            Member member = members.get(i);
+            member.setId((long) i + 1);
+            member.setStatus(MemberStatus.PENDING);
+            results.add(BulkRegistrationResult.registered(i, member));
+        }
+        return results;
+    }
+
+    private static Member member(int i) {
+        return applicant("queued" + i + "@example.com");
+    }
+}
@@ -0,0 +1,71 @@
+package com.vivek.clubRegistration.service;
+
+import com.vivek.clubRegistration.model.Member;
+import com.vivek.clubRegistration.repository.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.Map;
+
+import static com.vivek.clubRegistration.TestMembers.applicant;
+import static com.vivek.clubRegistration.TestMembers.applicantBuilder;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// Same configuration as WaitlistTest, so the two share one application context
+@SpringBootTest(properties = "club.max.members=" + WaitlistTest.MAX)
+class StatsServiceTest {
+
+    @Autowired MemberService memberService;
+    @Autowired CapacityService capacityService;
+    @Autowired StatsService statsService;
+    @Autowired Waitlist waitlist;
+    @Autowired MemberRepository memberRepository;
+
+    @BeforeEach
+    void emptyClub() {
+        memberRepository.deleteAll();
+        capacityService.reconcile();
+        statsService.resync();
+        waitlist.reload();
+    }
+
+    @Test
+    void countersFollowApproveRejectAndDelete() {
+        Member gold = memberService.registerMember(applicant("stats-gold@example.com"));
+        Member platinum = memberService.registerMember(
+                applicantBuilder("stats-platinum@example.com").membershipType("PLATINUM").build());
+        Member other = memberService.registerMember(applicant("stats-other@example.com"));
+        assertCounts(3, 0, 3, 0, Map.of());
+
+        memberService.approveMember(gold.getId());
+        memberService.approveMember(platinum.getId());
+        assertCounts(3, 2, 1, 0, Map.of("GOLD", 1L, "PLATINUM", 1L));
+
+        memberService.rejectMember(other.getId(), "Incomplete application");
+        assertCounts(3, 2, 0, 1, Map.of("GOLD", 1L, "PLATINUM", 1L));
+
+        memberService.deleteMember(gold.getId());
+        assertCounts(2, 1, 0, 1, Map.of("GOLD", 0L, "PLATINUM", 1L));
+        assertEquals(WaitlistTest.MAX - 1, (long) statsService.getStats().get("slotsRemaining"));
+
+        // The incremental counts agree with a recount from the table
+        Map<String, Object> incremental = statsService.getStats();
+        Map<String, Object> recounted = statsService.resync();
+        assertEquals(Map.of("PLATINUM", 1L), recounted.get("approvedByType"));
+        recounted.remove("approvedByType");
+        incremental.remove("approvedByType");
+        assertEquals(recounted, incremental);
+    }
+
+    private void assertCounts(long total, long approved, long pending, long rejected, Map<String, Long> byType) {
+        Map<String, Object> stats = statsService.getStats();
+        assertEquals(total, stats.get("total"));
+        assertEquals(approved, stats.get("approved"));
+        assertEquals(pending, stats.get("pending"));
+        assertEquals(rejected, stats.get("rejected"));
+        assertEquals(0L, stats.get("waitlisted"));
+        assertEquals(byType, stats.get("approvedByType"));
+    }
+}
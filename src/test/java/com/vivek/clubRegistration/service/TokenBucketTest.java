@@ -0,0 +1,59 @@
+package com.vivek.clubRegistration.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TokenBucketTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+    private static final long START = 1_000 * SECOND;
+
+    // 60 per minute: one token a second, up to 3 at once
+    private final TokenBucket bucket = TokenBucket.perMinute(60, 3, START);
+
+    @Test
+    void fullBurstIsAvailableAtOnceThenRefused() {
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, bucket.tryAcquire(START));
+        }
+        assertEquals(SECOND, bucket.tryAcquire(START));
+    }
+
+    @Test
+    void refillsOneTokenPerInterval() {
+        drain(START);
+
+        assertEquals(SECOND / 2, bucket.tryAcquire(START + SECOND / 2));
+        assertEquals(0, bucket.tryAcquire(START + SECOND));
+        assertEquals(SECOND, bucket.tryAcquire(START + SECOND));
+        assertEquals(0, bucket.tryAcquire(START + 2 * SECOND));
+    }
+
+    @Test
+    void refusalReportsExactlyWhenTheNextTokenFrees() {
+        drain(START);
+        long now = START + SECOND / 4;
+
+        long wait = bucket.tryAcquire(now);
+        assertEquals(3 * SECOND / 4, wait);
+        assertEquals(1, bucket.tryAcquire(now + wait - 1));
+        assertEquals(0, bucket.tryAcquire(now + wait));
+    }
+
+    @Test
+    void idleTimeNeverBanksMoreThanTheBurst() {
+        drain(START);
+
+        drain(START + 60 * SECOND);
+        assertEquals(SECOND, bucket.tryAcquire(START + 60 * SECOND));
+    }
+
+    private void drain(long now) {
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, bucket.tryAcquire(now));
+        }
+    }
+}
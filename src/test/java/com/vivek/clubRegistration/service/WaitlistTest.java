@@ -0,0 +1,123 @@
+package com.vivek.clubRegistration.service;
+
+import com.vivek.clubRegistration.model.Member;
+import com.vivek.clubRegistration.model.MemberStatus;
+import com.vivek.clubRegistration.repository.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.vivek.clubRegistration.TestMembers.applicantBuilder;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "club.max.members=" + WaitlistTest.MAX)
+class WaitlistTest {
+
+    static final int MAX = 5;
+
+    @Autowired MemberService memberService;
+    @Autowired CapacityService capacityService;
+    @Autowired StatsService statsService;
+    @Autowired Waitlist waitlist;
+    @Autowired MemberRepository memberRepository;
+
+    private final List<Long> pendingIds = new ArrayList<>();
+
+    @BeforeEach
+    void emptyClub() {
+        memberRepository.deleteAll();
+        capacityService.reconcile();
+        statsService.resync();
+        waitlist.reload();
+        pendingIds.clear();
+        for (int i = 0; i < MAX; i++) {
+            pendingIds.add(memberService.registerMember(applicant("member" + i + "@example.com", "GOLD")).getId());
+        }
+    }
+
+    @Test
+    void freedSlotsPromoteWaitlistByTierThenRegistrationTime() {
+        memberService.approveMembers(pendingIds);
+        Member silver = memberService.registerMember(applicant("early-silver@example.com", "SILVER"));
+        Member gold = memberService.registerMember(applicant("gold@example.com", "GOLD"));
+        Member platinum = memberService.registerMember(applicant("platinum@example.com", "PLATINUM"));
+        assertEquals(MemberStatus.WAITLISTED, silver.getStatus());
+        assertEquals(1, memberService.getWaitlistPosition(platinum.getId()).getPosition());
+        assertEquals(3, memberService.getWaitlistPosition(silver.getId()).getPosition());
+
+        memberService.rejectMember(pendingIds.get(0), "Membership lapsed");
+        assertEquals(MemberStatus.PENDING, memberService.findById(platinum.getId()).getStatus());
+        assertNull(memberService.getWaitlistPosition(platinum.getId()).getPosition());
+        assertEquals(1, memberService.getWaitlistPosition(gold.getId()).getPosition());
+
+        memberService.deleteMembers(pendingIds.subList(1, 3));
+        assertEquals(MemberStatus.PENDING, memberService.findById(gold.getId()).getStatus());
+        assertEquals(MemberStatus.PENDING, memberService.findById(silver.getId()).getStatus());
+        assertTrue(waitlist.isEmpty());
+    }
+
+    @Test
+    void sweepPromotesIntoUnclaimedSlotsWhileTheClubIsNotFull() {
+        memberService.approveMembers(pendingIds);
+        Member waiting = memberService.registerMember(applicant("waiting@example.com", "GOLD"));
+        Member promoted = memberService.registerMember(applicant("promoted@example.com", "PLATINUM"));
+        memberService.rejectMember(pendingIds.get(0), "Membership lapsed");
+        assertEquals(MemberStatus.PENDING, memberService.findById(promoted.getId()).getStatus());
+
+        // The promoted applicant is turned down: a slot is free, but nobody is promoted into it
+        memberService.rejectMember(promoted.getId(), "Incomplete application");
+        assertFalse(capacityService.isFull());
+        assertEquals(MemberStatus.WAITLISTED, memberService.findById(waiting.getId()).getStatus());
+
+        // Newcomers still queue behind the applicant already waiting
+        Member newcomer = memberService.registerMember(applicant("newcomer@example.com", "SILVER"));
+        assertEquals(MemberStatus.WAITLISTED, newcomer.getStatus());
+        assertEquals(2, memberService.getWaitlistPosition(newcomer.getId()).getPosition());
+
+        waitlist.promoteIntoFreeSlots();
+
+        assertEquals(MemberStatus.PENDING, memberService.findById(waiting.getId()).getStatus());
+        assertEquals(MemberStatus.WAITLISTED, memberService.findById(newcomer.getId()).getStatus());
+        assertEquals(1, memberService.getWaitlistPosition(newcomer.getId()).getPosition());
+    }
+
+    @Test
+    void reloadPicksUpChangesMadeOutsideThisInstance() {
+        memberService.approveMembers(pendingIds);
+        Member known = memberService.registerMember(applicant("known@example.com", "SILVER"));
+
+        // Written straight to the table, so no event reaches the mirror
+        Member platinum = memberRepository.save(waitlisted("other-platinum@example.com", "PLATINUM"));
+        Member gone = memberRepository.findById(known.getId()).orElseThrow();
+        gone.setStatus(MemberStatus.REJECTED);
+        memberRepository.save(gone);
+        Member silver = memberRepository.save(waitlisted("other-silver@example.com", "SILVER"));
+        assertEquals(1, waitlist.size());
+
+        waitlist.reload();
+
+        assertEquals(2, waitlist.size());
+        assertEquals(1, memberService.getWaitlistPosition(platinum.getId()).getPosition());
+        assertEquals(2, memberService.getWaitlistPosition(silver.getId()).getPosition());
+        assertNull(memberService.getWaitlistPosition(known.getId()).getPosition());
+    }
+
+    private static Member waitlisted(String email, String type) {
+        Member member = applicant(email, type);
+        member.setStatus(MemberStatus.WAITLISTED);
+        member.setRegisteredAt(LocalDateTime.now());
+        return member;
+    }
+
+    private static Member applicant(String email, String type) {
+        return applicantBuilder(email).membershipType(type).build();
+    }
+}